@@ -0,0 +1,247 @@
+package com.bookstore.assertions;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SHA-256 of a JSON document computed token by token while it is read, without building a tree.
+ * Canonical: object key order, number notation (1, 1.0, 1e0) and whitespace do not change the hash,
+ * and fields with an ignored name are skipped at any depth. Array order does count.
+ */
+public class CanonicalJsonHash {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Set<String> ignoredFields;
+
+    public CanonicalJsonHash(Collection<String> ignoredFields) {
+        this.ignoredFields = new HashSet<>(ignoredFields);
+    }
+
+    /**
+     * Hash of the JSON document read from the stream, as lower-case hex; the stream is left open
+     */
+    public String hash(InputStream json) throws IOException {
+        Hasher hasher = newHasher();
+        byte[] buffer = new byte[8192];
+        int count;
+        while ((count = json.read(buffer)) >= 0) {
+            hasher.update(buffer, 0, count);
+        }
+        return hasher.finish();
+    }
+
+    /**
+     * Hasher fed with the document bytes as they arrive, e.g. from a response being read
+     */
+    public Hasher newHasher() {
+        return new Hasher();
+    }
+
+    /**
+     * Push-based hash of one JSON document. Bytes go through Jackson's non-blocking parser, so
+     * no chunk has to hold a complete token; objects hold only one digest per member while open
+     * and sort them on close so key order does not matter. Malformed JSON does not fail
+     * {@link #update}, only {@link #finish}, so a hasher never breaks the reader feeding it.
+     */
+    public final class Hasher {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final Deque<Container> open = new ArrayDeque<>();
+        private boolean skipValue;
+        private int skipDepth;
+        private byte[] result;
+        private IOException failure;
+
+        private Hasher() {
+            try {
+                parser = FACTORY.createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new IllegalStateException("Non-blocking JSON parser not available", e);
+            }
+            feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        public void update(byte[] bytes, int offset, int length) {
+            if (failure != null || result != null || length <= 0) {
+                return;
+            }
+            try {
+                feeder.feedInput(bytes, offset, offset + length);
+                drain();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        /**
+         * Hash of the document as lower-case hex, once all bytes were fed
+         */
+        public String finish() throws IOException {
+            if (failure == null && result == null) {
+                try {
+                    feeder.endOfInput();
+                    drain();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            parser.close();
+            if (failure != null) {
+                throw failure;
+            }
+            if (result == null) {
+                throw new IOException(open.isEmpty() ? "No JSON content to hash" : "Incomplete JSON document");
+            }
+            return hex(result);
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while (result == null && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                accept(token);
+            }
+        }
+
+        private void accept(JsonToken token) throws IOException {
+            if (skipDepth > 0) {
+                if (token.isStructStart()) {
+                    skipDepth++;
+                } else if (token.isStructEnd()) {
+                    skipDepth--;
+                }
+                return;
+            }
+            if (skipValue) {
+                // Value of an ignored field: a scalar is dropped, a container is skipped to its end
+                skipValue = false;
+                skipDepth = token.isStructStart() ? 1 : 0;
+                return;
+            }
+            switch (token) {
+                case START_OBJECT:
+                    open.push(new Container(true));
+                    return;
+                case START_ARRAY:
+                    open.push(new Container(false));
+                    return;
+                case FIELD_NAME:
+                    String name = parser.getCurrentName();
+                    if (ignoredFields.contains(name)) {
+                        skipValue = true;
+                    } else {
+                        open.peek().name = name;
+                    }
+                    return;
+                case END_OBJECT:
+                case END_ARRAY:
+                    value(open.pop().close());
+                    return;
+                case VALUE_STRING:
+                    value(scalar('s', parser.getText()));
+                    return;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    value(scalar('n', parser.getDecimalValue().stripTrailingZeros().toPlainString()));
+                    return;
+                case VALUE_TRUE:
+                case VALUE_FALSE:
+                    value(scalar('b', parser.getText()));
+                    return;
+                case VALUE_NULL:
+                    value(scalar('0', ""));
+                    return;
+                default:
+                    throw new IOException("Unexpected JSON token " + token + " at " + parser.getCurrentLocation());
+            }
+        }
+
+        private void value(byte[] digest) {
+            Container parent = open.peek();
+            if (parent == null) {
+                result = digest;
+            } else {
+                parent.add(digest);
+            }
+        }
+    }
+
+    /**
+     * An open object (member digests, sorted on close) or array (digest updated in order)
+     */
+    private static final class Container {
+        private final List<byte[]> members;
+        private final MessageDigest array;
+        private String name;
+
+        Container(boolean object) {
+            this.members = object ? new ArrayList<>() : null;
+            this.array = object ? null : digest('[');
+        }
+
+        void add(byte[] value) {
+            if (members == null) {
+                array.update(value);
+                return;
+            }
+            MessageDigest member = digest('k');
+            member.update(name.getBytes(StandardCharsets.UTF_8));
+            member.update((byte) 0);
+            member.update(value);
+            members.add(member.digest());
+        }
+
+        byte[] close() {
+            if (members == null) {
+                return array.digest();
+            }
+            members.sort(Arrays::compareUnsigned);
+            MessageDigest object = digest('{');
+            members.forEach(object::update);
+            return object.digest();
+        }
+    }
+
+    private static byte[] scalar(char type, String text) {
+        MessageDigest scalar = digest(type);
+        scalar.update(text.getBytes(StandardCharsets.UTF_8));
+        return scalar.digest();
+    }
+
+    private static MessageDigest digest(char type) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((byte) type);
+            return digest;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX[bytes[i] & 0xf];
+        }
+        return new String(hex);
+    }
+}
@@ -0,0 +1,78 @@
+package com.bookstore.assertions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Structural difference of two JSON trees with the same canonical rules as {@link CanonicalJsonHash}:
+ * key order and number notation are ignored, as are fields with an ignored name
+ */
+public final class JsonDiff {
+
+    private JsonDiff() {
+    }
+
+    /**
+     * One line per difference, e.g. "$[3].title: expected <"A"> but was <"B">"
+     */
+    public static List<String> diff(JsonNode expected, JsonNode actual, Collection<String> ignoredFields) {
+        List<String> differences = new ArrayList<>();
+        compare("$", expected, actual, ignoredFields, differences);
+        return differences;
+    }
+
+    private static void compare(String path, JsonNode expected, JsonNode actual, Collection<String> ignoredFields,
+                                List<String> differences) {
+        if (expected.isNumber() && actual.isNumber()) {
+            if (expected.decimalValue().compareTo(actual.decimalValue()) != 0) {
+                differences.add(path + ": expected <" + expected + "> but was <" + actual + ">");
+            }
+            return;
+        }
+        if (expected.isObject() && actual.isObject()) {
+            Set<String> names = new TreeSet<>();
+            expected.fieldNames().forEachRemaining(names::add);
+            actual.fieldNames().forEachRemaining(names::add);
+            names.removeAll(ignoredFields);
+            for (String name : names) {
+                JsonNode expectedField = expected.get(name);
+                JsonNode actualField = actual.get(name);
+                if (actualField == null) {
+                    differences.add(path + "." + name + ": missing, expected <" + abbreviate(expectedField) + ">");
+                } else if (expectedField == null) {
+                    differences.add(path + "." + name + ": unexpected <" + abbreviate(actualField) + ">");
+                } else {
+                    compare(path + "." + name, expectedField, actualField, ignoredFields, differences);
+                }
+            }
+            return;
+        }
+        if (expected.isArray() && actual.isArray()) {
+            Iterator<JsonNode> expectedElements = expected.elements();
+            Iterator<JsonNode> actualElements = actual.elements();
+            int index = 0;
+            while (expectedElements.hasNext() && actualElements.hasNext()) {
+                compare(path + "[" + index++ + "]", expectedElements.next(), actualElements.next(),
+                        ignoredFields, differences);
+            }
+            if (expected.size() != actual.size()) {
+                differences.add(path + ": expected " + expected.size() + " elements but was " + actual.size());
+            }
+            return;
+        }
+        if (!expected.equals(actual)) {
+            differences.add(path + ": expected <" + abbreviate(expected) + "> but was <" + abbreviate(actual) + ">");
+        }
+    }
+
+    private static String abbreviate(JsonNode node) {
+        String text = node.toString();
+        return text.length() > 200 ? text.substring(0, 200) + "..." : text;
+    }
+}
@@ -0,0 +1,54 @@
+package com.bookstore.assertions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validates already parsed Jackson trees against classpath schemas, compiling each schema once
+ */
+public final class JsonSchemas {
+
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.byDefault();
+    private static final Map<String, JsonSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    private JsonSchemas() {
+    }
+
+    /**
+     * Validate the tree against a classpath schema (e.g. schemas/book-schema.json)
+     *
+     * @return the validation errors, empty when the tree is valid
+     */
+    public static List<String> validate(String schemaPath, JsonNode node) {
+        List<String> errors = new ArrayList<>();
+        try {
+            ProcessingReport report = schema(schemaPath).validate(node);
+            for (ProcessingMessage message : report) {
+                errors.add(message.getMessage());
+            }
+        } catch (ProcessingException e) {
+            errors.add("Schema " + schemaPath + " could not be applied: " + e.getMessage());
+        }
+        return errors;
+    }
+
+    private static JsonSchema schema(String schemaPath) {
+        return SCHEMAS.computeIfAbsent(schemaPath, path -> {
+            String uri = "resource:/" + (path.startsWith("/") ? path.substring(1) : path);
+            try {
+                return FACTORY.getJsonSchema(uri);
+            } catch (ProcessingException e) {
+                throw new IllegalArgumentException("Failed to load JSON schema " + path, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,217 @@
+package com.bookstore.assertions;
+
+import com.bookstore.jfr.AssertionEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Typed response assertions: the body is parsed once into a single Jackson tree, every check
+ * runs against that tree and all mismatches are reported together by {@link #verify()}.
+ * Unlike chained Hamcrest body("path", ...) calls, no GPath expression is evaluated.
+ */
+public class ResponseAssert {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Response response;
+    private final List<String> mismatches = new ArrayList<>();
+    private JsonNode body;
+
+    private ResponseAssert(Response response) {
+        this.response = response;
+    }
+
+    public static ResponseAssert assertThatResponse(Response response) {
+        return new ResponseAssert(response);
+    }
+
+    public ResponseAssert hasStatusCode(int expected) {
+        int actual = response.getStatusCode();
+        if (actual != expected) {
+            mismatches.add("status code: expected <" + expected + "> but was <" + actual + ">");
+        }
+        return this;
+    }
+
+    public ResponseAssert hasContentType(String expected) {
+        String actual = response.getContentType();
+        if (actual == null || !actual.contains(expected)) {
+            mismatches.add("content type: expected to contain <" + expected + "> but was <" + actual + ">");
+        }
+        return this;
+    }
+
+    /**
+     * Validate the parsed body against a classpath JSON schema
+     */
+    public ResponseAssert matchesSchema(String schemaPath) {
+        return recorded(AssertionEvent.SCHEMA, schemaPath, tree -> {
+            for (String error : JsonSchemas.validate(schemaPath, tree)) {
+                mismatches.add("schema " + schemaPath + ": " + error);
+            }
+        });
+    }
+
+    /**
+     * Compare every field of the expected object (e.g. a {@link com.bookstore.models.Book}) with the body
+     */
+    public ResponseAssert hasBody(Object expected) {
+        return recorded(AssertionEvent.BODY, "$", tree -> compare("$", MAPPER.valueToTree(expected), tree));
+    }
+
+    /**
+     * Compare only the chosen top-level fields of the body with the expected object
+     */
+    public ResponseAssert hasFields(Object expected, String... fields) {
+        return recorded(AssertionEvent.BODY, String.join(",", fields), tree -> {
+            JsonNode expectedTree = MAPPER.valueToTree(expected);
+            for (String field : fields) {
+                compare("$." + field, expectedTree.get(field), tree.get(field));
+            }
+        });
+    }
+
+    /**
+     * Compare a single top-level field with the expected value
+     */
+    public ResponseAssert hasField(String field, Object expected) {
+        return recorded(AssertionEvent.BODY, field,
+                tree -> compare("$." + field, MAPPER.valueToTree(expected), tree.get(field)));
+    }
+
+    public ResponseAssert hasNonNullFields(String... fields) {
+        return recorded(AssertionEvent.BODY, String.join(",", fields), tree -> {
+            for (String field : fields) {
+                JsonNode value = tree.get(field);
+                if (value == null || value.isNull()) {
+                    mismatches.add("$." + field + ": expected not null but was <" + value + ">");
+                }
+            }
+        });
+    }
+
+    public ResponseAssert isNonEmptyArray() {
+        return recorded(AssertionEvent.BODY, "$", tree -> {
+            if (!tree.isArray() || tree.size() == 0) {
+                mismatches.add("$: expected a non-empty array but was <" + abbreviate(tree) + ">");
+            }
+        });
+    }
+
+    /**
+     * Fail with every mismatch collected so far
+     */
+    public ResponseAssert verify() {
+        if (!mismatches.isEmpty()) {
+            StringBuilder message = new StringBuilder()
+                    .append(mismatches.size()).append(" mismatch(es) in response of ")
+                    .append(response.getStatusLine()).append(':');
+            for (String mismatch : mismatches) {
+                message.append("\n  - ").append(mismatch);
+            }
+            throw new AssertionError(message.toString());
+        }
+        return this;
+    }
+
+    /**
+     * Map the already parsed body to a typed object, without parsing the response again
+     */
+    public <T> T as(Class<T> type) {
+        JsonNode tree = body();
+        if (tree == null) {
+            verify();
+        }
+        try {
+            return MAPPER.treeToValue(tree, type);
+        } catch (JsonProcessingException e) {
+            throw new AssertionError("Response body is not a " + type.getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The body parsed once; null (with a recorded mismatch) when it is not valid JSON
+     */
+    private JsonNode body() {
+        if (body == null) {
+            try {
+                body = MAPPER.readTree(response.asByteArray());
+            } catch (IOException e) {
+                mismatches.add("body: not valid JSON (" + e.getMessage() + ")");
+                return null;
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Run a check against the parsed body inside an {@link AssertionEvent}; it passes when it adds no mismatch
+     */
+    private ResponseAssert recorded(String kind, String target, Consumer<JsonNode> check) {
+        JsonNode tree = body();
+        if (tree == null) {
+            return this;
+        }
+        AssertionEvent event = AssertionEvent.begin(kind, target);
+        int before = mismatches.size();
+        try {
+            check.accept(tree);
+        } finally {
+            event.finish(mismatches.size() == before);
+        }
+        return this;
+    }
+
+    private void compare(String path, JsonNode expected, JsonNode actual) {
+        if (expected == null || expected.isNull()) {
+            if (actual != null && !actual.isNull()) {
+                mismatches.add(path + ": expected <null> but was <" + abbreviate(actual) + ">");
+            }
+            return;
+        }
+        if (actual == null || actual.isMissingNode()) {
+            mismatches.add(path + ": expected <" + abbreviate(expected) + "> but was missing");
+            return;
+        }
+        if (expected.isNumber() && actual.isNumber()) {
+            if (expected.decimalValue().compareTo(actual.decimalValue()) != 0) {
+                mismatches.add(path + ": expected <" + expected + "> but was <" + actual + ">");
+            }
+            return;
+        }
+        if (expected.isObject() && actual.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = expected.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                compare(path + "." + field.getKey(), field.getValue(), actual.get(field.getKey()));
+            }
+            return;
+        }
+        if (expected.isArray() && actual.isArray()) {
+            if (expected.size() != actual.size()) {
+                mismatches.add(path + ": expected " + expected.size() + " elements but was " + actual.size());
+            }
+            for (int i = 0; i < Math.min(expected.size(), actual.size()); i++) {
+                compare(path + "[" + i + "]", expected.get(i), actual.get(i));
+            }
+            return;
+        }
+        if (!expected.equals(actual)) {
+            mismatches.add(path + ": expected <" + abbreviate(expected) + "> but was <" + abbreviate(actual) + ">");
+        }
+    }
+
+    private static String abbreviate(JsonNode node) {
+        String text = node.toString();
+        return text.length() > 200 ? text.substring(0, 200) + "..." : text;
+    }
+}
@@ -0,0 +1,321 @@
+package com.bookstore.assertions;
+
+import com.bookstore.jfr.AssertionEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snapshot assertions on JSON responses. Requests whose response is asserted carry the
+ * {@link #capture(String)} filter, which hashes the body with {@link CanonicalJsonHash} as it is read
+ * from the connection, whichever filter or assertion reads it first; the hash is compared with
+ * the stored golden hash and the golden document is only loaded and diffed against the
+ * response when the hashes differ. Goldens are stored per snapshot name as name.json
+ * (canonical, ignored fields removed) and name.sha256. A missing golden fails the assertion;
+ * with update on, missing and differing goldens are recorded instead of failing.
+ */
+public class SnapshotAssert {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Path directory;
+    private final boolean update;
+    private final List<String> ignoredFields;
+    private final CanonicalJsonHash hash;
+    // Captured bodies by snapshot name until asserted; responses themselves may be replaced by
+    // outer filters (the response logging filter returns a buffered copy), so they can't be the key
+    private final Map<String, CapturedBody> captured = new ConcurrentHashMap<>();
+
+    /**
+     * @param directory     where golden snapshots are stored
+     * @param update        re-record goldens that differ instead of failing
+     * @param ignoredFields volatile field names ignored at any depth, e.g. publishDate
+     */
+    public SnapshotAssert(Path directory, boolean update, Collection<String> ignoredFields) {
+        this.directory = directory;
+        this.update = update;
+        this.ignoredFields = List.copyOf(ignoredFields);
+        this.hash = new CanonicalJsonHash(ignoredFields);
+    }
+
+    public SnapshotAssert(Path directory, boolean update, String... ignoredFields) {
+        this(directory, update, Arrays.asList(ignoredFields));
+    }
+
+    /**
+     * Filter for a request whose response will be asserted against the named snapshot, e.g.
+     * {@code given().spec(spec).filter(snapshots.capture("book-1")).get(...)}. It runs last before
+     * the request is sent (after the Allure filter, which has the same precedence but is registered
+     * earlier) and replaces the response body with a stream that hashes the bytes as they pass.
+     */
+    public Filter capture(String name) {
+        return new CaptureFilter(name);
+    }
+
+    /**
+     * Assert the body of a captured response matches the golden snapshot of the given name
+     */
+    public void assertMatches(Response response, String name) {
+        CapturedBody body = captured.remove(name);
+        if (body == null) {
+            throw new IllegalStateException("No response captured for snapshot " + name
+                    + "; send the request with filter(snapshots.capture(\"" + name + "\"))");
+        }
+        AssertionEvent event = AssertionEvent.begin(AssertionEvent.SNAPSHOT, name);
+        boolean passed = false;
+        Path spool = null;
+        try {
+            if (!body.isComplete()) {
+                // Nothing has buffered the body yet: read it from the connection now, keeping a
+                // copy on disk rather than on the heap in case a diff is needed
+                spool = Files.createTempFile("snapshot-" + name + "-", ".json");
+                body.spoolTo(Files.newOutputStream(spool));
+                try (InputStream in = response.asInputStream()) {
+                    in.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+            String actualHash = body.hash();
+
+            String goldenHash = goldenHash(name);
+            if (actualHash.equals(goldenHash)) {
+                passed = true;
+                return;
+            }
+            JsonNode actual = spool != null ? MAPPER.readTree(spool.toFile()) : MAPPER.readTree(response.asByteArray());
+            if (goldenHash == null) {
+                if (!update) {
+                    throw new AssertionError("No golden snapshot " + name + " in " + directory
+                            + "; record it with snapshot.update=true");
+                }
+                record(name, actual, actualHash);
+                System.out.println("Recorded new snapshot " + name + " in " + directory);
+                passed = true;
+                return;
+            }
+            if (!Files.exists(jsonFile(name))) {
+                throw new AssertionError("Response hash " + shortHash(actualHash) + " differs from snapshot " + name
+                        + " and its golden document " + jsonFile(name) + " is missing, so no diff is possible");
+            }
+            List<String> differences = JsonDiff.diff(MAPPER.readTree(jsonFile(name).toFile()), actual, ignoredFields);
+            if (differences.isEmpty()) {
+                // Same document, stored hash stale (e.g. written with other ignored fields or truncated)
+                if (update) {
+                    record(name, actual, actualHash);
+                } else {
+                    System.out.println("Stored hash of snapshot " + name + " is stale; refresh it with snapshot.update=true");
+                }
+                passed = true;
+                return;
+            }
+            if (update) {
+                record(name, actual, actualHash);
+                System.out.println("Updated snapshot " + name + " in " + directory);
+                passed = true;
+                return;
+            }
+            throw new AssertionError(message(name, goldenHash, actualHash, differences));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Snapshot " + name + " could not be checked", e);
+        } finally {
+            event.finish(passed);
+            if (spool != null) {
+                try {
+                    Files.deleteIfExists(spool);
+                } catch (IOException ignored) {
+                    // Temporary file, removed by the OS at the latest
+                }
+            }
+        }
+    }
+
+    private String goldenHash(String name) throws IOException {
+        Path hashFile = hashFile(name);
+        if (Files.exists(hashFile)) {
+            String stored = new String(Files.readAllBytes(hashFile), StandardCharsets.US_ASCII).trim();
+            if (!stored.isEmpty()) {
+                return stored;
+            }
+        }
+        Path jsonFile = jsonFile(name);
+        if (Files.exists(jsonFile)) {
+            try (InputStream in = Files.newInputStream(jsonFile)) {
+                return hash.hash(in);
+            }
+        }
+        return null;
+    }
+
+    private void record(String name, JsonNode actual, String actualHash) throws IOException {
+        Files.createDirectories(directory);
+        MAPPER.writeValue(jsonFile(name).toFile(), withoutIgnoredFields(actual));
+        Files.write(hashFile(name), (actualHash + "\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private JsonNode withoutIgnoredFields(JsonNode node) {
+        if (node.isObject()) {
+            // Sorted keys keep golden files stable whatever order the service uses
+            ObjectNode copy = MAPPER.createObjectNode();
+            Set<String> names = new TreeSet<>();
+            node.fieldNames().forEachRemaining(names::add);
+            names.removeAll(ignoredFields);
+            for (String name : names) {
+                copy.set(name, withoutIgnoredFields(node.get(name)));
+            }
+            return copy;
+        }
+        if (node.isArray()) {
+            ArrayNode copy = MAPPER.createArrayNode();
+            node.forEach(element -> copy.add(withoutIgnoredFields(element)));
+            return copy;
+        }
+        return node;
+    }
+
+    private String message(String name, String goldenHash, String actualHash, List<String> differences) {
+        StringBuilder message = new StringBuilder()
+                .append("Response differs from snapshot ").append(name)
+                .append(" (hash ").append(shortHash(actualHash)).append(" != ").append(shortHash(goldenHash))
+                .append("), ").append(differences.size()).append(" difference(s):");
+        differences.stream().limit(50).forEach(difference -> message.append("\n  - ").append(difference));
+        if (differences.size() > 50) {
+            message.append("\n  ...");
+        }
+        return message.append("\nRe-record with snapshot.update=true if the change is expected").toString();
+    }
+
+    private static String shortHash(String hash) {
+        return hash.length() > 12 ? hash.substring(0, 12) : hash;
+    }
+
+    private Path jsonFile(String name) {
+        return directory.resolve(name + ".json");
+    }
+
+    private Path hashFile(String name) {
+        return directory.resolve(name + ".sha256");
+    }
+
+    private class CaptureFilter implements OrderedFilter {
+
+        private final String name;
+
+        CaptureFilter(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public int getOrder() {
+            return LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            CapturedBody body = new CapturedBody(response.asInputStream(), hash.newHasher());
+            captured.put(name, body);
+            return new ResponseBuilder().clone(response).setBody(body).build();
+        }
+    }
+
+    /**
+     * Response body stream feeding every byte read to the hasher and, once set, to a spool file
+     */
+    private static class CapturedBody extends FilterInputStream {
+
+        private final CanonicalJsonHash.Hasher hasher;
+        private final byte[] single = new byte[1];
+        private OutputStream copy;
+        private volatile boolean complete;
+
+        CapturedBody(InputStream in, CanonicalJsonHash.Hasher hasher) {
+            super(in);
+            this.hasher = hasher;
+        }
+
+        /**
+         * True once the body was read to its end, i.e. Rest Assured holds it in memory
+         */
+        boolean isComplete() {
+            return complete;
+        }
+
+        void spoolTo(OutputStream copy) {
+            this.copy = copy;
+        }
+
+        String hash() throws IOException {
+            return hasher.finish();
+        }
+
+        @Override
+        public int read() throws IOException {
+            int count = read(single, 0, 1);
+            return count > 0 ? single[0] & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count < 0) {
+                complete = true;
+            } else if (count > 0) {
+                hasher.update(buffer, offset, count);
+                if (copy != null) {
+                    copy.write(buffer, offset, count);
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Read rather than skip, so skipped bytes are hashed as well
+            byte[] buffer = new byte[8192];
+            long skipped = 0;
+            int count;
+            while (skipped < n && (count = read(buffer, 0, (int) Math.min(buffer.length, n - skipped))) > 0) {
+                skipped += count;
+            }
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (copy != null) {
+                    copy.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.bookstore.bandwidth;
+
+import com.bookstore.streaming.StreamingBody;
+import com.bookstore.utils.ApiRoutes;
+import com.bookstore.utils.RequestBodies;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Rest Assured filter that records wire versus decoded bytes of every call in {@link BandwidthStats}.
+ * Registered ahead of {@link RequestCompressionFilter}: the request body is measured before the
+ * call (decoded) and again after it, once the compression filter has replaced it (wire).
+ */
+public class BandwidthFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long requestDecoded = Math.max(0, RequestBodies.size(requestSpec.getBody()));
+
+        WireBytes.reset();
+        Response response = ctx.next(requestSpec, responseSpec);
+        // Reading the body drives the counting stream to the end
+        long responseDecoded = response.asByteArray().length;
+
+        long requestWire = Math.max(0, RequestBodies.sentSize(requestSpec.getBody()));
+        if (requestSpec.getBody() instanceof StreamingBody) {
+            // Streamed bodies are sent as generated, their size is only known once sent
+            requestDecoded = requestWire;
+        }
+
+        BandwidthStats.record(requestSpec.getMethod(), ApiRoutes.normalize(requestSpec.getUserDefinedPath()),
+                requestWire, requestDecoded, WireBytes.received(), responseDecoded);
+        return response;
+    }
+}
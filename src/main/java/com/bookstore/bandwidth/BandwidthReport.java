@@ -0,0 +1,58 @@
+package com.bookstore.bandwidth;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Plain-text per-route bandwidth report of a run
+ */
+public final class BandwidthReport {
+
+    private BandwidthReport() {
+    }
+
+    public static String format(List<BandwidthStats.RouteTotals> routes) {
+        StringBuilder report = new StringBuilder("=== Bandwidth Report ===\n");
+        report.append(String.format("%-8s %-24s %-9s %-12s %-12s %-12s %-12s %s%n",
+                "method", "path", "requests", "req_wire", "req_decoded", "resp_wire", "resp_decoded", "resp_ratio"));
+        long requestWire = 0;
+        long requestDecoded = 0;
+        long responseWire = 0;
+        long responseDecoded = 0;
+        for (BandwidthStats.RouteTotals route : routes) {
+            report.append(String.format("%-8s %-24s %-9d %-12d %-12d %-12d %-12d %s%n",
+                    route.getMethod(), route.getPath(), route.getRequests(),
+                    route.getRequestWireBytes(), route.getRequestDecodedBytes(),
+                    route.getResponseWireBytes(), route.getResponseDecodedBytes(),
+                    ratio(route.getResponseWireBytes(), route.getResponseDecodedBytes())));
+            requestWire += route.getRequestWireBytes();
+            requestDecoded += route.getRequestDecodedBytes();
+            responseWire += route.getResponseWireBytes();
+            responseDecoded += route.getResponseDecodedBytes();
+        }
+        report.append(String.format("%-8s %-24s %-9s %-12d %-12d %-12d %-12d %s%n",
+                "TOTAL", "", "", requestWire, requestDecoded, responseWire, responseDecoded,
+                ratio(responseWire, responseDecoded)));
+        return report.toString();
+    }
+
+    public static void write(Path path) {
+        String report = format(BandwidthStats.snapshot());
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.write(path, report.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("Failed to write bandwidth report: " + e.getMessage());
+        }
+        System.out.println(report);
+    }
+
+    private static String ratio(long wire, long decoded) {
+        return decoded == 0 ? "-" : String.format("%.2f", (double) wire / decoded);
+    }
+}
@@ -0,0 +1,78 @@
+package com.bookstore.bandwidth;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per method and route accounting of wire bytes (as sent/received) versus decoded bytes
+ */
+public final class BandwidthStats {
+
+    private static final Map<String, Route> ROUTES = new ConcurrentHashMap<>();
+
+    private BandwidthStats() {
+    }
+
+    public static void record(String method, String path, long requestWire, long requestDecoded,
+                              long responseWire, long responseDecoded) {
+        Route route = ROUTES.computeIfAbsent(method + " " + path, key -> new Route(method, path));
+        route.requests.increment();
+        route.requestWire.add(requestWire);
+        route.requestDecoded.add(requestDecoded);
+        route.responseWire.add(responseWire);
+        route.responseDecoded.add(responseDecoded);
+    }
+
+    /**
+     * Totals per route, largest response traffic first
+     */
+    public static List<RouteTotals> snapshot() {
+        List<RouteTotals> totals = new ArrayList<>();
+        for (Route route : ROUTES.values()) {
+            totals.add(new RouteTotals(route.method, route.path, route.requests.sum(),
+                    route.requestWire.sum(), route.requestDecoded.sum(),
+                    route.responseWire.sum(), route.responseDecoded.sum()));
+        }
+        totals.sort(Comparator.comparingLong(RouteTotals::getResponseWireBytes).reversed());
+        return totals;
+    }
+
+    /**
+     * Forget all totals, so a report only covers the current suite run
+     */
+    public static void reset() {
+        ROUTES.clear();
+    }
+
+    @Value
+    public static class RouteTotals {
+        String method;
+        String path;
+        long requests;
+        long requestWireBytes;
+        long requestDecodedBytes;
+        long responseWireBytes;
+        long responseDecodedBytes;
+    }
+
+    private static class Route {
+        final String method;
+        final String path;
+        final LongAdder requests = new LongAdder();
+        final LongAdder requestWire = new LongAdder();
+        final LongAdder requestDecoded = new LongAdder();
+        final LongAdder responseWire = new LongAdder();
+        final LongAdder responseDecoded = new LongAdder();
+
+        Route(String method, String path) {
+            this.method = method;
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.bookstore.bandwidth;
+
+import io.restassured.config.DecoderConfig;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content codings supported for request and response compression
+ */
+public enum Compression {
+    NONE,
+    GZIP,
+    DEFLATE;
+
+    public static Compression fromName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return NONE;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported compression '" + name
+                    + "', expected one of none, gzip, deflate", e);
+        }
+    }
+
+    /**
+     * Value of the Content-Encoding header for this coding
+     */
+    public String headerValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public byte[] compress(byte[] data) {
+        if (this == NONE) {
+            return data;
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (OutputStream out = this == GZIP ? new GZIPOutputStream(buffer) : new DeflaterOutputStream(buffer)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to " + headerValue() + " request body", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Rest Assured decoder config accepting the given response codings (e.g. "gzip,deflate");
+     * an empty list or "none" asks the server for uncompressed responses
+     */
+    public static DecoderConfig decoderConfig(String encodings) {
+        List<DecoderConfig.ContentDecoder> decoders = new ArrayList<>();
+        if (encodings != null) {
+            for (String encoding : encodings.split(",")) {
+                Compression compression = fromName(encoding);
+                if (compression != NONE) {
+                    decoders.add(DecoderConfig.ContentDecoder.valueOf(compression.name()));
+                }
+            }
+        }
+        if (decoders.isEmpty()) {
+            return DecoderConfig.decoderConfig().noContentDecoders();
+        }
+        return DecoderConfig.decoderConfig().contentDecoders(decoders.get(0),
+                decoders.subList(1, decoders.size()).toArray(new DecoderConfig.ContentDecoder[0]));
+    }
+}
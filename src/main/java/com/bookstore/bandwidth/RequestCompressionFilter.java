@@ -0,0 +1,47 @@
+package com.bookstore.bandwidth;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Rest Assured filter that compresses serialized request bodies of at least minBytes
+ * and sets the matching Content-Encoding header
+ */
+public class RequestCompressionFilter implements Filter {
+
+    private final Compression compression;
+    private final int minBytes;
+
+    public RequestCompressionFilter(Compression compression, int minBytes) {
+        this.compression = compression;
+        this.minBytes = minBytes;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        byte[] body = bodyBytes(requestSpec.getBody());
+        if (body != null && compression != Compression.NONE && body.length >= minBytes
+                && !requestSpec.getHeaders().hasHeaderWithName("Content-Encoding")) {
+            requestSpec.body(compression.compress(body));
+            requestSpec.header("Content-Encoding", compression.headerValue());
+        }
+        return ctx.next(requestSpec, responseSpec);
+    }
+
+    private static byte[] bodyBytes(Object body) {
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+}
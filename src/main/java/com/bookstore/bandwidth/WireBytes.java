@@ -0,0 +1,101 @@
+package com.bookstore.bandwidth;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.HttpClient;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.client.AbstractHttpClient;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counts response body bytes as they come off the wire, before Rest Assured decodes
+ * gzip/deflate. Counts are kept per thread, since a request is sent and its body read
+ * on the calling thread.
+ */
+public final class WireBytes {
+
+    private static final ThreadLocal<long[]> RECEIVED = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * Registered before Rest Assured's decoding interceptors, so it sees the raw entity
+     */
+    private static final HttpResponseInterceptor INTERCEPTOR = (response, context) -> {
+        HttpEntity entity = response.getEntity();
+        if (entity != null) {
+            response.setEntity(new CountingEntity(entity));
+        }
+    };
+
+    private WireBytes() {
+    }
+
+    /**
+     * Wrap a client factory so every client it creates counts wire bytes
+     */
+    public static HttpClientConfig.HttpClientFactory counting(HttpClientConfig.HttpClientFactory factory) {
+        return () -> {
+            HttpClient client = factory.createHttpClient();
+            if (client instanceof AbstractHttpClient) {
+                ((AbstractHttpClient) client).addResponseInterceptor(INTERCEPTOR);
+            }
+            return client;
+        };
+    }
+
+    public static void reset() {
+        RECEIVED.get()[0] = 0;
+    }
+
+    /**
+     * Response body bytes received on this thread since the last {@link #reset()}
+     */
+    public static long received() {
+        return RECEIVED.get()[0];
+    }
+
+    private static class CountingEntity extends HttpEntityWrapper {
+        CountingEntity(HttpEntity entity) {
+            super(entity);
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new CountingInputStream(super.getContent());
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                RECEIVED.get()[0]++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                RECEIVED.get()[0] += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            RECEIVED.get()[0] += skipped;
+            return skipped;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.bookstore.config;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -78,4 +80,215 @@ public class TestConfig {
     public boolean isResponseLoggingEnabled() {
         return Boolean.parseBoolean(getProperty("enable.response.logging"));
     }
+
+    public boolean isJfrEnabled() {
+        return Boolean.parseBoolean(getProperty("jfr.enabled"));
+    }
+
+    public String getJfrSettings() {
+        return getProperty("jfr.settings", "profile");
+    }
+
+    public String getJfrOutput() {
+        return getProperty("jfr.output", "target/jfr/api-tests.jfr");
+    }
+
+    /**
+     * Get property value, falling back to the given default when it is not set
+     */
+    public String getProperty(String key, String defaultValue) {
+        String value = getProperty(key);
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+
+    public boolean isHttpPoolEnabled() {
+        return Boolean.parseBoolean(getProperty("http.pool.enabled"));
+    }
+
+    public int getPoolMaxTotal() {
+        return getIntProperty("http.pool.max.total", 50);
+    }
+
+    public int getPoolMaxPerRoute() {
+        return getIntProperty("http.pool.max.per.route", 20);
+    }
+
+    public boolean isMetricsEnabled() {
+        return Boolean.parseBoolean(getProperty("metrics.enabled"));
+    }
+
+    /**
+     * Address the /metrics endpoint binds to; loopback unless scraped from another host
+     */
+    public String getMetricsHttpHost() {
+        return getProperty("metrics.http.host", "127.0.0.1");
+    }
+
+    public int getMetricsHttpPort() {
+        return getIntProperty("metrics.http.port", 9464);
+    }
+
+    public String getMetricsTextfilePath() {
+        return getProperty("metrics.textfile.path", "");
+    }
+
+    public int getMetricsTextfileIntervalSeconds() {
+        return getIntProperty("metrics.textfile.interval.seconds", 15);
+    }
+
+    /**
+     * Get integer property value, falling back to the given default when it is not set
+     */
+    public int getIntProperty(String key, int defaultValue) {
+        return Integer.parseInt(getProperty(key, Integer.toString(defaultValue)));
+    }
+
+    public long getSoakDurationSeconds() {
+        return Long.parseLong(getProperty("soak.duration.seconds", "3600"));
+    }
+
+    public int getSoakWarmupIterations() {
+        return getIntProperty("soak.warmup.iterations", 2);
+    }
+
+    public int getSoakMinIterations() {
+        return getIntProperty("soak.min.iterations", 5);
+    }
+
+    public int getSoakPauseSeconds() {
+        return getIntProperty("soak.pause.seconds", 0);
+    }
+
+    public String getSoakSuite() {
+        return getProperty("soak.suite", "src/test/resources/testng.xml");
+    }
+
+    public String getSoakReportPath() {
+        return getProperty("soak.report", "target/soak/soak-report.txt");
+    }
+
+    public int getSoakMaxHeapGrowthMb() {
+        return getIntProperty("soak.max.heap.growth.mb", 32);
+    }
+
+    public int getSoakMaxThreadGrowth() {
+        return getIntProperty("soak.max.thread.growth", 5);
+    }
+
+    public int getSoakMaxFdGrowth() {
+        return getIntProperty("soak.max.fd.growth", 20);
+    }
+
+    public int getSoakMaxConnectionGrowth() {
+        return getIntProperty("soak.max.connection.growth", 10);
+    }
+
+    public double getSoakMaxFailedShare() {
+        return Double.parseDouble(getProperty("soak.max.failed.share", "0"));
+    }
+
+    public long getFixturesIdBase() {
+        return Long.parseLong(getProperty("fixtures.id.base", "1000000"));
+    }
+
+    public long getFixturesRunSize() {
+        return Long.parseLong(getProperty("fixtures.run.size", "100000"));
+    }
+
+    /**
+     * Fixture id range of the first suite run, or -1 (not set) to pick it at random
+     */
+    public long getFixturesRunSlot() {
+        return Long.parseLong(getProperty("fixtures.run.slot", "-1"));
+    }
+
+    public int getFixturesThreadBlockSize() {
+        return getIntProperty("fixtures.thread.block.size", 1000);
+    }
+
+    public int getFixturesBatchSize() {
+        return getIntProperty("fixtures.batch.size", 50);
+    }
+
+    public int getFixturesCleanupThreads() {
+        return getIntProperty("fixtures.cleanup.threads", 8);
+    }
+
+    public String getRequestCompression() {
+        return getProperty("compression.request", "none");
+    }
+
+    public int getRequestCompressionMinBytes() {
+        return getIntProperty("compression.request.min.bytes", 1024);
+    }
+
+    public String getResponseCompression() {
+        return getProperty("compression.response", "gzip,deflate");
+    }
+
+    public boolean isBandwidthAccountingEnabled() {
+        return Boolean.parseBoolean(getProperty("bandwidth.accounting.enabled"));
+    }
+
+    public String getBandwidthReportPath() {
+        return getProperty("bandwidth.report", "target/bandwidth/bandwidth-report.txt");
+    }
+
+    public int getScenarioInstances() {
+        return getIntProperty("scenario.instances", 20);
+    }
+
+    public int getScenarioConcurrency() {
+        return getIntProperty("scenario.concurrency", 8);
+    }
+
+    public int getScenarioMaxActiveInstances() {
+        return getIntProperty("scenario.max.active.instances", 16);
+    }
+
+    public int getStreamingSegmentBytes() {
+        return getIntProperty("streaming.segment.bytes", 65536);
+    }
+
+    public long getStreamingDescriptionBytes() {
+        return Long.parseLong(getProperty("streaming.description.bytes", "4194304"));
+    }
+
+    public long getStreamingExcerptBytes() {
+        return Long.parseLong(getProperty("streaming.excerpt.bytes", "1048576"));
+    }
+
+    public int getStreamingBulkBooks() {
+        return getIntProperty("streaming.bulk.books", 20000);
+    }
+
+    public int getStreamingUploads() {
+        return getIntProperty("streaming.uploads", 16);
+    }
+
+    public int getStreamingConcurrency() {
+        return getIntProperty("streaming.concurrency", 8);
+    }
+
+    public String getStreamingReportPath() {
+        return getProperty("streaming.report", "target/streaming/upload-report.txt");
+    }
+
+    public String getSnapshotDir() {
+        return getProperty("snapshot.dir", "src/test/resources/snapshots");
+    }
+
+    public boolean isSnapshotUpdate() {
+        return Boolean.parseBoolean(getProperty("snapshot.update"));
+    }
+
+    public List<String> getSnapshotIgnoredFields() {
+        List<String> fields = new ArrayList<>();
+        for (String field : getProperty("snapshot.ignored.fields", "publishDate").split(",")) {
+            if (!field.trim().isEmpty()) {
+                fields.add(field.trim());
+            }
+        }
+        return fields;
+    }
 }
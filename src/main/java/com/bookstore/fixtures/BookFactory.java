@@ -0,0 +1,194 @@
+package com.bookstore.fixtures;
+
+import com.bookstore.config.TestConfig;
+import com.bookstore.models.Book;
+import com.bookstore.utils.RestClient;
+import io.restassured.response.Response;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Factory for Book fixtures with collision-free ids, so parallel threads and repeated runs
+ * against the same environment never share a book. Created books are tracked and deleted
+ * in bulk by {@link #cleanup()} at suite end.
+ */
+public class BookFactory {
+    private static BookFactory instance;
+
+    private final long base;
+    private final long runSize;
+    private final long slots;
+    private final long configuredSlot;
+    private final int blockSize;
+    private final int batchSize;
+    private final int cleanupThreads;
+    private final Set<Long> usedSlots = new HashSet<>();
+    private final Set<Integer> created = ConcurrentHashMap.newKeySet();
+    private volatile IdAllocator ids;
+    private volatile ThreadLocal<Deque<Book>> batch;
+
+    private BookFactory(TestConfig config) {
+        this.base = config.getFixturesIdBase();
+        this.runSize = config.getFixturesRunSize();
+        this.slots = (Integer.MAX_VALUE - base) / runSize;
+        this.configuredSlot = config.getFixturesRunSlot();
+        this.blockSize = config.getFixturesThreadBlockSize();
+        this.batchSize = config.getFixturesBatchSize();
+        this.cleanupThreads = config.getFixturesCleanupThreads();
+        startRun();
+    }
+
+    public static BookFactory getInstance() {
+        if (instance == null) {
+            synchronized (BookFactory.class) {
+                if (instance == null) {
+                    instance = new BookFactory(TestConfig.getInstance());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Switch to a new id range for the next suite run (e.g. a soak iteration in the same JVM),
+     * unless the current range is still untouched. Ranges used earlier in this JVM are never
+     * reused. A configured fixtures.run.slot is the first range and later runs take the
+     * following slots; otherwise the slot is random, which makes a collision with a
+     * concurrent run in another JVM unlikely but not impossible.
+     */
+    public synchronized void startRun() {
+        if (ids != null && ids.isUnused()) {
+            return;
+        }
+        if (usedSlots.size() >= slots) {
+            throw new IllegalStateException("All " + slots + " fixture id ranges were used by this JVM");
+        }
+        long slot = configuredSlot < 0
+                ? ThreadLocalRandom.current().nextLong(slots)
+                : (configuredSlot + usedSlots.size()) % slots;
+        while (!usedSlots.add(slot)) {
+            slot = (slot + 1) % slots;
+        }
+        // Pre-built books belong to the previous range, so batches start over as well
+        batch = ThreadLocal.withInitial(ArrayDeque::new);
+        ids = new IdAllocator(base + slot * runSize, runSize, batchSize, blockSize);
+    }
+
+    /**
+     * Next pre-built book with a fresh id; batches are built per thread so callers never contend
+     */
+    public Book build() {
+        Deque<Book> books = batch.get();
+        if (books.isEmpty()) {
+            for (int i = 0; i < batchSize; i++) {
+                books.add(newBook(ids.next()));
+            }
+        }
+        return books.poll();
+    }
+
+    /**
+     * An id from this run's range that is never used for a book, i.e. does not exist
+     */
+    public int unusedId() {
+        return ids.next();
+    }
+
+    /**
+     * An unused id for a request that is expected to be rejected; tracked for cleanup
+     * in case the service accepts it anyway
+     */
+    public int reserveId() {
+        int id = ids.next();
+        track(id);
+        return id;
+    }
+
+    /**
+     * POST a new fixture book and track it for cleanup
+     */
+    public Book create() {
+        Book book = build();
+        track(book.getId());
+        given()
+            .spec(RestClient.getRequestSpec())
+            .body(book)
+        .when()
+            .post("/Books")
+        .then()
+            .statusCode(200);
+        return book;
+    }
+
+    /**
+     * Track a book created outside the factory (e.g. by a POST test) so it is deleted at suite end
+     */
+    public void track(int id) {
+        created.add(id);
+    }
+
+    /**
+     * Delete all tracked books concurrently; books already deleted by a test (404) are fine
+     *
+     * @return ids that could not be deleted
+     */
+    public List<Integer> cleanup() {
+        List<Integer> toDelete = new ArrayList<>(created);
+        List<Integer> failed = new ArrayList<>();
+        if (toDelete.isEmpty()) {
+            return failed;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(cleanupThreads, toDelete.size()));
+        try {
+            List<Future<Response>> deletions = new ArrayList<>();
+            for (Integer id : toDelete) {
+                deletions.add(executor.submit(() -> given()
+                        .spec(RestClient.getRequestSpec())
+                        .delete("/Books/" + id)));
+            }
+            for (int i = 0; i < toDelete.size(); i++) {
+                Integer id = toDelete.get(i);
+                try {
+                    int status = deletions.get(i).get().getStatusCode();
+                    if (status == 200 || status == 204 || status == 404) {
+                        created.remove(id);
+                    } else {
+                        failed.add(id);
+                    }
+                } catch (ExecutionException e) {
+                    failed.add(id);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return failed;
+    }
+
+    private static Book newBook(int id) {
+        return Book.builder()
+            .id(id)
+            .title("Fixture Book " + id)
+            .description("Fixture Description " + id)
+            .pageCount(100)
+            .excerpt("Fixture Excerpt")
+            .publishDate("2025-10-18T14:22:07.735Z")
+            .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.bookstore.fixtures;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free id allocator. Each run owns a private id range; threads claim blocks of that range
+ * with a single atomic add and then hand out ids from their block without any synchronization.
+ * A thread's first block is small and each further block doubles up to the maximum, so
+ * short-lived pool threads take few ids while busy threads rarely touch the shared counter.
+ */
+public class IdAllocator {
+
+    private final long runStart;
+    private final long runEnd;
+    private final int initialBlockSize;
+    private final int maxBlockSize;
+    private final AtomicLong nextBlock;
+    // block[0] = next id, block[1] = end of block (exclusive), block[2] = size of the last claimed block
+    private final ThreadLocal<long[]> threadBlock = ThreadLocal.withInitial(() -> new long[]{0, 0, 0});
+
+    /**
+     * @param runStart         first id of this run's range
+     * @param runSize          number of ids in this run's range
+     * @param initialBlockSize number of ids a thread claims the first time
+     * @param maxBlockSize     most ids a thread claims at once
+     */
+    public IdAllocator(long runStart, long runSize, int initialBlockSize, int maxBlockSize) {
+        if (runStart < 0 || runStart + runSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Id range [" + runStart + ", " + (runStart + runSize)
+                    + ") does not fit into a positive int");
+        }
+        this.runStart = runStart;
+        this.runEnd = runStart + runSize;
+        this.initialBlockSize = Math.max(1, Math.min(initialBlockSize, maxBlockSize));
+        this.maxBlockSize = maxBlockSize;
+        this.nextBlock = new AtomicLong(runStart);
+    }
+
+    public int next() {
+        long[] block = threadBlock.get();
+        if (block[0] >= block[1]) {
+            long size = block[2] == 0 ? initialBlockSize : Math.min(block[2] * 2, maxBlockSize);
+            long start = nextBlock.getAndAdd(size);
+            if (start >= runEnd) {
+                throw new IllegalStateException("Id range of this run is exhausted (ends at " + runEnd + ")");
+            }
+            block[0] = start;
+            block[1] = Math.min(start + size, runEnd);
+            block[2] = size;
+        }
+        return (int) block[0]++;
+    }
+
+    /**
+     * True while no thread has claimed ids from this range
+     */
+    public boolean isUnused() {
+        return nextBlock.get() == runStart;
+    }
+}
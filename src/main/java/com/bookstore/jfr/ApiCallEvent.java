@@ -0,0 +1,35 @@
+package com.bookstore.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning a single API call, from request start to response end
+ */
+@Name("com.bookstore.ApiCall")
+@Label("API Call")
+@Category({"Bookstore", "API"})
+@Description("HTTP request sent through the Rest Assured client")
+public class ApiCallEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Status")
+    int status;
+
+    @Label("Request Bytes")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    long responseBytes;
+}
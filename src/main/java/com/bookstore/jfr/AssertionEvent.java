@@ -0,0 +1,52 @@
+package com.bookstore.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning the evaluation of a single response assertion
+ */
+@Name("com.bookstore.Assertion")
+@Label("Assertion")
+@Category({"Bookstore", "Assertion"})
+@Description("Schema validation, body or snapshot assertion evaluated against a response")
+public class AssertionEvent extends Event {
+
+    public static final String SCHEMA = "schema";
+    public static final String BODY = "body";
+    public static final String SNAPSHOT = "snapshot";
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Target")
+    String target;
+
+    @Label("Passed")
+    boolean passed;
+
+    /**
+     * Create an event for the given assertion kind (schema, body or snapshot) and target
+     */
+    public static AssertionEvent begin(String kind, String target) {
+        AssertionEvent event = new AssertionEvent();
+        event.kind = kind;
+        event.target = target;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record the outcome and commit the event if the recording is interested in it
+     */
+    public void finish(boolean passed) {
+        end();
+        if (shouldCommit()) {
+            this.passed = passed;
+            commit();
+        }
+    }
+}
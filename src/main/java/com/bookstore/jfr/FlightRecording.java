@@ -0,0 +1,69 @@
+package com.bookstore.jfr;
+
+import com.bookstore.config.TestConfig;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+
+/**
+ * Manages the suite-wide Flight Recorder recording, switched on with jfr.enabled
+ */
+public final class FlightRecording {
+
+    private static Recording recording;
+    private static int users;
+
+    private FlightRecording() {
+    }
+
+    /**
+     * Start a recording with the configured JFR settings, if enabled and not already running.
+     * Calls are counted so a soak run can keep one recording open across nested suite runs.
+     */
+    public static synchronized void start() {
+        users++;
+        TestConfig config = TestConfig.getInstance();
+        if (!config.isJfrEnabled() || recording != null) {
+            return;
+        }
+        try {
+            recording = new Recording(Configuration.getConfiguration(config.getJfrSettings()));
+            recording.setName("bookstore-api-tests");
+            recording.enable(ApiCallEvent.class);
+            recording.enable(AssertionEvent.class);
+            recording.start();
+        } catch (IOException | ParseException e) {
+            System.err.println("Failed to start JFR recording: " + e.getMessage());
+            recording = null;
+        }
+    }
+
+    /**
+     * Stop the recording and dump it to the configured .jfr file, once the last user has stopped
+     */
+    public static synchronized void stop() {
+        users = Math.max(0, users - 1);
+        if (users > 0 || recording == null) {
+            return;
+        }
+        Path output = Paths.get(TestConfig.getInstance().getJfrOutput());
+        try {
+            if (output.getParent() != null) {
+                Files.createDirectories(output.getParent());
+            }
+            recording.stop();
+            recording.dump(output);
+            System.out.println("JFR recording written to " + output.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Failed to write JFR recording: " + e.getMessage());
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+}
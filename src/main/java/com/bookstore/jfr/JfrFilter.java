@@ -0,0 +1,46 @@
+package com.bookstore.jfr;
+
+import com.bookstore.utils.RequestBodies;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Rest Assured filter that emits an {@link ApiCallEvent} for every request
+ */
+public class JfrFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        ApiCallEvent event = new ApiCallEvent();
+        if (!event.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        event.method = requestSpec.getMethod();
+        event.path = requestSpec.getUserDefinedPath();
+        event.begin();
+
+        Response response = null;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+            return response;
+        } finally {
+            // Failed calls (timeouts, resets) are committed with status 0
+            event.end();
+            if (event.shouldCommit()) {
+                // Read after the call: streamed bodies only know their size once sent
+                event.requestBytes = RequestBodies.sentSize(requestSpec.getBody());
+                if (response != null) {
+                    event.status = response.getStatusCode();
+                    event.responseBytes = response.asByteArray().length;
+                }
+                event.commit();
+            }
+        }
+    }
+}
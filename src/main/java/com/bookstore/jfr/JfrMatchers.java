@@ -0,0 +1,56 @@
+package com.bookstore.jfr;
+
+import io.restassured.module.jsv.JsonSchemaValidator;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+/**
+ * Hamcrest matchers that emit an {@link AssertionEvent} around the wrapped matcher
+ */
+public final class JfrMatchers {
+
+    private JfrMatchers() {
+    }
+
+    /**
+     * JSON schema validation against a classpath schema, recorded as a schema assertion
+     */
+    public static Matcher<?> matchesSchema(String schemaPath) {
+        return recorded(AssertionEvent.SCHEMA, schemaPath,
+                JsonSchemaValidator.matchesJsonSchemaInClasspath(schemaPath));
+    }
+
+    /**
+     * Record the evaluation of any body matcher under the given target name
+     */
+    public static <T> Matcher<T> body(String target, Matcher<T> matcher) {
+        return recorded(AssertionEvent.BODY, target, matcher);
+    }
+
+    private static <T> Matcher<T> recorded(String kind, String target, Matcher<T> delegate) {
+        return new BaseMatcher<T>() {
+            @Override
+            public boolean matches(Object actual) {
+                AssertionEvent event = AssertionEvent.begin(kind, target);
+                boolean passed = false;
+                try {
+                    passed = delegate.matches(actual);
+                    return passed;
+                } finally {
+                    event.finish(passed);
+                }
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                delegate.describeTo(description);
+            }
+
+            @Override
+            public void describeMismatch(Object item, Description description) {
+                delegate.describeMismatch(item, description);
+            }
+        };
+    }
+}
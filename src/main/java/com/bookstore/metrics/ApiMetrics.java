@@ -0,0 +1,51 @@
+package com.bookstore.metrics;
+
+/**
+ * Standard API client metrics registered in the default registry
+ */
+public final class ApiMetrics {
+
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.getDefault();
+
+    public static final Counter REQUESTS = REGISTRY.counter(
+            "bookstore_api_requests", "API requests sent", "method", "path");
+
+    public static final Counter RESPONSES = REGISTRY.counter(
+            "bookstore_api_responses", "API responses received by status code", "method", "path", "status");
+
+    public static final Counter ERRORS = REGISTRY.counter(
+            "bookstore_api_errors", "API requests that failed without a response", "method", "path");
+
+    public static final Counter REQUEST_BYTES = REGISTRY.counter(
+            "bookstore_api_request_bytes", "Request body bytes sent", "method", "path");
+
+    public static final Counter RESPONSE_BYTES = REGISTRY.counter(
+            "bookstore_api_response_bytes", "Response body bytes received", "method", "path");
+
+    public static final Gauge IN_FLIGHT = REGISTRY.gauge(
+            "bookstore_api_in_flight_requests", "API requests currently in flight");
+
+    public static final Gauge POOL_LEASED = REGISTRY.gauge(
+            "bookstore_http_pool_leased_connections", "Connections leased from the HTTP client pool");
+
+    public static final Gauge POOL_AVAILABLE = REGISTRY.gauge(
+            "bookstore_http_pool_available_connections", "Idle connections kept in the HTTP client pool");
+
+    public static final Gauge POOL_MAX = REGISTRY.gauge(
+            "bookstore_http_pool_max_connections", "Maximum connections of the HTTP client pool");
+
+    public static final Histogram LATENCY = REGISTRY.histogram(
+            "bookstore_api_request_duration_seconds", "API request latency in seconds",
+            Histogram.LATENCY_BUCKETS, "method", "path");
+
+    static {
+        // Unlabelled gauges are exported from the start, not only after the first request
+        IN_FLIGHT.labels();
+        POOL_LEASED.labels();
+        POOL_AVAILABLE.labels();
+        POOL_MAX.labels();
+    }
+
+    private ApiMetrics() {
+    }
+}
@@ -0,0 +1,42 @@
+package com.bookstore.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic counter backed by striped {@link LongAdder} cells so concurrent requests don't contend
+ */
+public class Counter extends Metric<Counter.Child> {
+
+    public Counter(String name, String help, String... labelNames) {
+        super(name, help, labelNames);
+    }
+
+    @Override
+    public String getType() {
+        return "counter";
+    }
+
+    @Override
+    protected Child newChild() {
+        return new Child();
+    }
+
+    public static class Child {
+        private final LongAdder value = new LongAdder();
+
+        public void inc() {
+            value.increment();
+        }
+
+        public void inc(long amount) {
+            if (amount < 0) {
+                throw new IllegalArgumentException("Counter cannot be decreased: " + amount);
+            }
+            value.add(amount);
+        }
+
+        public long get() {
+            return value.sum();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.bookstore.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Gauge that is either updated directly (inc/dec) or sampled from a supplier at export time
+ */
+public class Gauge extends Metric<Gauge.Child> {
+
+    public Gauge(String name, String help, String... labelNames) {
+        super(name, help, labelNames);
+    }
+
+    @Override
+    public String getType() {
+        return "gauge";
+    }
+
+    @Override
+    protected Child newChild() {
+        return new Child();
+    }
+
+    public static class Child {
+        private final LongAdder value = new LongAdder();
+        private volatile LongSupplier supplier;
+
+        public void inc() {
+            value.increment();
+        }
+
+        public void dec() {
+            value.decrement();
+        }
+
+        /**
+         * Sample the value from the supplier whenever the gauge is read
+         */
+        public void setSupplier(LongSupplier supplier) {
+            this.supplier = supplier;
+        }
+
+        public long get() {
+            LongSupplier current = supplier;
+            return current != null ? current.getAsLong() : value.sum();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.bookstore.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket histogram; each bucket is a striped {@link LongAdder}, cumulated only at export time
+ */
+public class Histogram extends Metric<Histogram.Child> {
+
+    /** Latency buckets in seconds, from 5ms to 10s */
+    public static final double[] LATENCY_BUCKETS = {
+            0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+
+    private final double[] upperBounds;
+
+    public Histogram(String name, String help, double[] upperBounds, String... labelNames) {
+        super(name, help, labelNames);
+        this.upperBounds = upperBounds.clone();
+        Arrays.sort(this.upperBounds);
+    }
+
+    @Override
+    public String getType() {
+        return "histogram";
+    }
+
+    public double[] getUpperBounds() {
+        return upperBounds.clone();
+    }
+
+    @Override
+    protected Child newChild() {
+        return new Child(upperBounds);
+    }
+
+    public static class Child {
+        private final double[] upperBounds;
+        // One extra slot for the +Inf bucket
+        private final LongAdder[] buckets;
+        private final DoubleAdder sum = new DoubleAdder();
+
+        Child(double[] upperBounds) {
+            this.upperBounds = upperBounds;
+            this.buckets = new LongAdder[upperBounds.length + 1];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public void observe(double value) {
+            int index = Arrays.binarySearch(upperBounds, value);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            buckets[index].increment();
+            sum.add(value);
+        }
+
+        /**
+         * Cumulative bucket counts, the last entry being the +Inf bucket (= total count)
+         */
+        public long[] cumulativeCounts() {
+            long[] counts = new long[buckets.length];
+            long running = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                running += buckets[i].sum();
+                counts[i] = running;
+            }
+            return counts;
+        }
+
+        public double getSum() {
+            return sum.sum();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.bookstore.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Base class for a metric family: a name, help text and one child per label value combination
+ */
+public abstract class Metric<C> {
+
+    private final String name;
+    private final String help;
+    private final String[] labelNames;
+    private final Map<List<String>, C> children = new ConcurrentHashMap<>();
+
+    protected Metric(String name, String help, String... labelNames) {
+        this.name = name;
+        this.help = help;
+        this.labelNames = labelNames.clone();
+    }
+
+    /**
+     * Get (or create) the child for the given label values
+     */
+    public C labels(String... labelValues) {
+        if (labelValues.length != labelNames.length) {
+            throw new IllegalArgumentException("Metric " + name + " expects labels "
+                    + Arrays.toString(labelNames) + " but got " + Arrays.toString(labelValues));
+        }
+        return children.computeIfAbsent(Arrays.asList(labelValues.clone()), key -> newChild());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    public String[] getLabelNames() {
+        return labelNames.clone();
+    }
+
+    Map<List<String>, C> children() {
+        return children;
+    }
+
+    /**
+     * OpenMetrics type of this family (counter, gauge, histogram)
+     */
+    public abstract String getType();
+
+    protected abstract C newChild();
+}
@@ -0,0 +1,143 @@
+package com.bookstore.metrics;
+
+import com.bookstore.config.TestConfig;
+import com.bookstore.utils.HttpClientPool;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.pool.PoolStats;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * Exposes the default registry on a small OpenMetrics HTTP endpoint (/metrics)
+ * and periodically writes it to a textfile, both switched on with metrics.enabled
+ */
+public final class MetricsExporter {
+
+    private static HttpServer server;
+    private static ScheduledExecutorService textfileWriter;
+    private static int users;
+
+    private MetricsExporter() {
+    }
+
+    /**
+     * Start the endpoint and textfile writer as configured; no-op if disabled or already started.
+     * Calls are counted so a soak run can keep the exporters up across nested suite runs.
+     */
+    public static synchronized void start() {
+        users++;
+        TestConfig config = TestConfig.getInstance();
+        if (!config.isMetricsEnabled() || server != null || textfileWriter != null) {
+            return;
+        }
+        registerPoolGauges();
+
+        int port = config.getMetricsHttpPort();
+        if (port > 0) {
+            try {
+                String host = config.getMetricsHttpHost();
+                server = serve(MetricsRegistry.getDefault(), new InetSocketAddress(host, port));
+                System.out.println("Metrics endpoint: http://" + host + ":" + port + "/metrics");
+            } catch (IOException e) {
+                System.err.println("Failed to start metrics endpoint: " + e.getMessage());
+                server = null;
+            }
+        }
+
+        String textfile = config.getMetricsTextfilePath();
+        if (!textfile.isEmpty()) {
+            Path path = Paths.get(textfile);
+            int interval = config.getMetricsTextfileIntervalSeconds();
+            textfileWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics-textfile-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            textfileWriter.scheduleAtFixedRate(() -> writeTextfile(path), interval, interval, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Stop the endpoint and write the textfile one last time, once the last user has stopped
+     */
+    public static synchronized void stop() {
+        users = Math.max(0, users - 1);
+        if (users > 0) {
+            return;
+        }
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (textfileWriter != null) {
+            textfileWriter.shutdownNow();
+            textfileWriter = null;
+            writeTextfile(Paths.get(TestConfig.getInstance().getMetricsTextfilePath()));
+        }
+    }
+
+    /**
+     * Serve the registry on /metrics at the given address until the returned server is stopped
+     */
+    public static HttpServer serve(MetricsRegistry registry, InetSocketAddress address) throws IOException {
+        HttpServer endpoint = HttpServer.create(address, 0);
+        endpoint.createContext("/metrics", exchange -> handle(registry, exchange));
+        endpoint.start();
+        return endpoint;
+    }
+
+    /**
+     * Write the default registry to the given file
+     */
+    public static void writeTextfile(Path path) {
+        writeTextfile(MetricsRegistry.getDefault(), path);
+    }
+
+    /**
+     * Write the registry to the given file, replacing it atomically so scrapers never see a partial file
+     */
+    public static void writeTextfile(MetricsRegistry registry, Path path) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.write(temp, OpenMetricsFormat.write(registry).getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Failed to write metrics textfile: " + e.getMessage());
+        }
+    }
+
+    private static void registerPoolGauges() {
+        ApiMetrics.POOL_LEASED.labels().setSupplier(() -> poolStat(PoolStats::getLeased));
+        ApiMetrics.POOL_AVAILABLE.labels().setSupplier(() -> poolStat(PoolStats::getAvailable));
+        ApiMetrics.POOL_MAX.labels().setSupplier(() -> poolStat(PoolStats::getMax));
+    }
+
+    private static long poolStat(ToIntFunction<PoolStats> stat) {
+        PoolStats stats = HttpClientPool.stats();
+        return stats != null ? stat.applyAsInt(stats) : 0;
+    }
+
+    private static void handle(MetricsRegistry registry, HttpExchange exchange) throws IOException {
+        byte[] body = OpenMetricsFormat.write(registry).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", OpenMetricsFormat.CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.bookstore.metrics;
+
+import com.bookstore.utils.ApiRoutes;
+import com.bookstore.utils.RequestBodies;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Rest Assured filter that feeds the {@link ApiMetrics} for every request
+ */
+public class MetricsFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String method = requestSpec.getMethod();
+        String path = ApiRoutes.normalize(requestSpec.getUserDefinedPath());
+
+        ApiMetrics.REQUESTS.labels(method, path).inc();
+        ApiMetrics.IN_FLIGHT.labels().inc();
+        long start = System.nanoTime();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            ApiMetrics.RESPONSES.labels(method, path, Integer.toString(response.getStatusCode())).inc();
+            ApiMetrics.RESPONSE_BYTES.labels(method, path).inc(response.asByteArray().length);
+            return response;
+        } catch (RuntimeException e) {
+            ApiMetrics.ERRORS.labels(method, path).inc();
+            throw e;
+        } finally {
+            // Counted after the call: streamed bodies only know their size once sent
+            ApiMetrics.REQUEST_BYTES.labels(method, path).inc(Math.max(0, RequestBodies.sentSize(requestSpec.getBody())));
+            ApiMetrics.IN_FLIGHT.labels().dec();
+            ApiMetrics.LATENCY.labels(method, path).observe((System.nanoTime() - start) / 1e9);
+        }
+    }
+}
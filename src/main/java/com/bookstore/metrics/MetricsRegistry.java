@@ -0,0 +1,52 @@
+package com.bookstore.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process registry of metric families, shared by the filter and the exporters
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+    private final Map<String, Metric<?>> metrics = new ConcurrentHashMap<>();
+
+    public static MetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    public Counter counter(String name, String help, String... labelNames) {
+        return register(new Counter(name, help, labelNames), Counter.class);
+    }
+
+    public Gauge gauge(String name, String help, String... labelNames) {
+        return register(new Gauge(name, help, labelNames), Gauge.class);
+    }
+
+    public Histogram histogram(String name, String help, double[] upperBounds, String... labelNames) {
+        return register(new Histogram(name, help, upperBounds, labelNames), Histogram.class);
+    }
+
+    /**
+     * Snapshot of the registered families, sorted by name for stable output
+     */
+    public List<Metric<?>> getMetrics() {
+        List<Metric<?>> snapshot = new ArrayList<>(metrics.values());
+        snapshot.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return snapshot;
+    }
+
+    private <M extends Metric<?>> M register(M metric, Class<M> type) {
+        Metric<?> existing = metrics.putIfAbsent(metric.getName(), metric);
+        if (existing == null) {
+            return metric;
+        }
+        if (!type.isInstance(existing)) {
+            throw new IllegalArgumentException("Metric " + metric.getName()
+                    + " is already registered as a " + existing.getType());
+        }
+        return type.cast(existing);
+    }
+}
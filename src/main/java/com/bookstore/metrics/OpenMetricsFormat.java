@@ -0,0 +1,91 @@
+package com.bookstore.metrics;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a registry in the OpenMetrics text exposition format
+ */
+public final class OpenMetricsFormat {
+
+    public static final String CONTENT_TYPE =
+            "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private OpenMetricsFormat() {
+    }
+
+    public static String write(MetricsRegistry registry) {
+        StringWriter writer = new StringWriter();
+        try {
+            write(registry, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    public static void write(MetricsRegistry registry, Writer writer) throws IOException {
+        for (Metric<?> metric : registry.getMetrics()) {
+            String name = metric.getName();
+            writer.write("# TYPE " + name + " " + metric.getType() + "\n");
+            writer.write("# HELP " + name + " " + escape(metric.getHelp()) + "\n");
+            String[] labelNames = metric.getLabelNames();
+
+            for (Map.Entry<List<String>, ?> entry : metric.children().entrySet()) {
+                List<String> labelValues = entry.getKey();
+                Object child = entry.getValue();
+
+                if (child instanceof Counter.Child) {
+                    sample(writer, name + "_total", labelNames, labelValues, null,
+                            Long.toString(((Counter.Child) child).get()));
+                } else if (child instanceof Gauge.Child) {
+                    sample(writer, name, labelNames, labelValues, null,
+                            Long.toString(((Gauge.Child) child).get()));
+                } else if (child instanceof Histogram.Child) {
+                    Histogram.Child histogram = (Histogram.Child) child;
+                    double[] bounds = ((Histogram) metric).getUpperBounds();
+                    long[] counts = histogram.cumulativeCounts();
+                    for (int i = 0; i < counts.length; i++) {
+                        String le = i < bounds.length ? Double.toString(bounds[i]) : "+Inf";
+                        sample(writer, name + "_bucket", labelNames, labelValues, le,
+                                Long.toString(counts[i]));
+                    }
+                    sample(writer, name + "_count", labelNames, labelValues, null,
+                            Long.toString(counts[counts.length - 1]));
+                    sample(writer, name + "_sum", labelNames, labelValues, null,
+                            Double.toString(histogram.getSum()));
+                }
+            }
+        }
+        writer.write("# EOF\n");
+    }
+
+    private static void sample(Writer writer, String name, String[] labelNames, List<String> labelValues,
+                               String le, String value) throws IOException {
+        writer.write(name);
+        if (labelNames.length > 0 || le != null) {
+            writer.write('{');
+            for (int i = 0; i < labelNames.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(labelNames[i] + "=\"" + escape(labelValues.get(i)) + "\"");
+            }
+            if (le != null) {
+                writer.write((labelNames.length > 0 ? "," : "") + "le=\"" + le + "\"");
+            }
+            writer.write('}');
+        }
+        writer.write(' ');
+        writer.write(value);
+        writer.write('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
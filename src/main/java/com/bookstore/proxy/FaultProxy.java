@@ -0,0 +1,396 @@
+package com.bookstore.proxy;
+
+import javax.net.ssl.SSLSocketFactory;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local HTTP proxy placed between {@link com.bookstore.utils.RestClient} and a target
+ * (point base.url at {@link #getBaseUrl()}). Requests are matched against {@link FaultRule}s
+ * and get latency, bandwidth limits, slow-drip responses, dropped connections or resets.
+ * Every request is forwarded on its own upstream connection and answered with Connection: close,
+ * so responses can be relayed as a raw byte stream without re-framing.
+ */
+public class FaultProxy implements Closeable {
+
+    private static final int MAX_HEADER_BYTES = 64 * 1024;
+    // \r\n\r\n as the last four bytes read
+    private static final int END_OF_HEAD = 0x0D0A0D0A;
+
+    private final URI target;
+    private final List<FaultRule> rules = new ArrayList<>();
+    private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+    private final Random random;
+    private final ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "fault-proxy");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ServerSocket serverSocket;
+    private int connectTimeoutMillis = 10_000;
+    private int readTimeoutMillis = 10_000;
+
+    private FaultProxy(URI target, long seed) {
+        this.target = target;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Proxy forwarding to the given base URL (http or https); null for a stub-only proxy.
+     * Requests are forwarded with the path they were sent with, so the URL must not have
+     * a path or query of its own (base.url, not base.url + base.path).
+     */
+    public static FaultProxy forTarget(String targetUrl) {
+        if (targetUrl == null) {
+            return new FaultProxy(null, 42);
+        }
+        URI target = URI.create(targetUrl);
+        String path = target.getRawPath();
+        if (target.getHost() == null || (path != null && !path.isEmpty() && !path.equals("/"))
+                || target.getRawQuery() != null) {
+            throw new IllegalArgumentException("Proxy target must be a scheme, host and optional port, but was "
+                    + targetUrl + "; the request path is forwarded as sent");
+        }
+        return new FaultProxy(target, 42);
+    }
+
+    /**
+     * Proxy without upstream: every request must match a stub rule
+     */
+    public static FaultProxy stubOnly() {
+        return forTarget(null);
+    }
+
+    /**
+     * Seed of the random source used for latency sampling and fault probabilities
+     */
+    public FaultProxy seed(long seed) {
+        random.setSeed(seed);
+        return this;
+    }
+
+    /**
+     * Connect and read timeouts of the upstream connection to the target, in milliseconds
+     */
+    public FaultProxy upstreamTimeouts(int connectMillis, int readMillis) {
+        this.connectTimeoutMillis = connectMillis;
+        this.readTimeoutMillis = readMillis;
+        return this;
+    }
+
+    /**
+     * Add a rule; rules are matched in the order they were added, first match wins
+     */
+    public FaultProxy route(FaultRule rule) {
+        rules.add(rule);
+        return this;
+    }
+
+    public FaultProxy start() throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        connections.execute(this::acceptLoop);
+        return this;
+    }
+
+    /**
+     * Base URL to use instead of the target's, e.g. http://127.0.0.1:54321
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + serverSocket.getLocalPort();
+    }
+
+    /**
+     * Number of requests (including client retries) that matched the named rule
+     */
+    public long getRequestCount(String ruleName) {
+        AtomicLong count = requestCounts.get(ruleName);
+        return count != null ? count.get() : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        connections.shutdownNow();
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                connections.execute(() -> handle(client));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Fault proxy failed to accept connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void handle(Socket client) {
+        try (Socket socket = client) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            byte[] head = readHead(in);
+            if (head == null) {
+                return;
+            }
+            Request request = Request.parse(head);
+            byte[] body = readBody(in, request);
+            FaultRule rule = match(request);
+            requestCounts.computeIfAbsent(rule.getName(), name -> new AtomicLong()).incrementAndGet();
+
+            long latency;
+            boolean drop;
+            boolean reset;
+            synchronized (random) {
+                latency = Math.max(0, rule.getLatency().sampleMillis(random));
+                drop = random.nextDouble() < rule.getDropProbability();
+                reset = random.nextDouble() < rule.getResetProbability();
+            }
+            if (drop) {
+                return;
+            }
+            if (reset) {
+                socket.setSoLinger(true, 0);
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(latency);
+
+            OutputStream out = new ThrottledOutputStream(socket.getOutputStream(), rule);
+            if (rule.getStubStatus() > 0) {
+                writeStub(out, rule);
+            } else {
+                forward(request, body, out);
+            }
+            out.flush();
+        } catch (SocketException e) {
+            // Client gave up (e.g. its socket timeout expired) while we were delaying or sending
+        } catch (IOException e) {
+            System.err.println("Fault proxy request failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private FaultRule match(Request request) {
+        for (FaultRule rule : rules) {
+            if (rule.matches(request.method, request.path)) {
+                return rule;
+            }
+        }
+        return FaultRule.builder().build();
+    }
+
+    private void forward(Request request, byte[] body, OutputStream out) throws IOException {
+        if (target == null) {
+            writeStub(out, FaultRule.builder().stubStatus(502)
+                    .stubBody("{\"error\":\"no fault rule stub for " + request.method + " " + request.path + "\"}")
+                    .build());
+            return;
+        }
+        boolean https = "https".equalsIgnoreCase(target.getScheme());
+        int port = target.getPort() > 0 ? target.getPort() : (https ? 443 : 80);
+        try (Socket upstream = connect(target.getHost(), port, https)) {
+            OutputStream upstreamOut = upstream.getOutputStream();
+            upstreamOut.write(request.rewriteHead(target.getHost() + (target.getPort() > 0 ? ":" + port : "")));
+            upstreamOut.write(body);
+            upstreamOut.flush();
+
+            InputStream upstreamIn = new BufferedInputStream(upstream.getInputStream());
+            byte[] responseHead = readHead(upstreamIn);
+            if (responseHead == null) {
+                return;
+            }
+            out.write(withConnectionClose(responseHead));
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = upstreamIn.read(buffer)) > 0) {
+                out.write(buffer, 0, n);
+            }
+        }
+    }
+
+    private Socket connect(String host, int port, boolean https) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), connectTimeoutMillis);
+            socket.setSoTimeout(readTimeoutMillis);
+            return https
+                    ? ((SSLSocketFactory) SSLSocketFactory.getDefault()).createSocket(socket, host, port, true)
+                    : socket;
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    private static void writeStub(OutputStream out, FaultRule rule) throws IOException {
+        byte[] body = rule.getStubBody().getBytes(StandardCharsets.UTF_8);
+        String head = "HTTP/1.1 " + rule.getStubStatus() + " Stub\r\n"
+                + "Content-Type: " + rule.getStubContentType() + "\r\n"
+                + "Content-Length: " + body.length + "\r\n"
+                + "Connection: close\r\n\r\n";
+        out.write(head.getBytes(StandardCharsets.ISO_8859_1));
+        out.write(body);
+    }
+
+    /**
+     * Read up to and including the blank line ending the header block; null on EOF before any byte
+     */
+    private static byte[] readHead(InputStream in) throws IOException {
+        ByteArrayOutputStream head = new ByteArrayOutputStream(512);
+        int last4 = 0;
+        int b;
+        while (last4 != END_OF_HEAD && (b = in.read()) >= 0) {
+            head.write(b);
+            last4 = (last4 << 8) | b;
+            if (head.size() > MAX_HEADER_BYTES) {
+                throw new IOException("Header block larger than " + MAX_HEADER_BYTES + " bytes");
+            }
+        }
+        return head.size() == 0 ? null : head.toByteArray();
+    }
+
+    /**
+     * Read the request body as framed on the wire (Content-Length or raw chunked encoding)
+     */
+    private static byte[] readBody(InputStream in, Request request) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        if (request.chunked) {
+            while (true) {
+                String sizeLine = readLine(in, body);
+                int size = Integer.parseInt(sizeLine.split(";")[0].trim(), 16);
+                if (size == 0) {
+                    // Trailers until the empty line
+                    while (!readLine(in, body).isEmpty()) {
+                        // skip
+                    }
+                    break;
+                }
+                copy(in, body, size);
+                readLine(in, body);
+            }
+        } else if (request.contentLength > 0) {
+            copy(in, body, request.contentLength);
+        }
+        return body.toByteArray();
+    }
+
+    private static String readLine(InputStream in, ByteArrayOutputStream raw) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) >= 0) {
+            raw.write(b);
+            if (b == '\n') {
+                break;
+            }
+            if (b != '\r') {
+                line.append((char) b);
+            }
+        }
+        return line.toString();
+    }
+
+    private static void copy(InputStream in, ByteArrayOutputStream out, long length) throws IOException {
+        byte[] buffer = new byte[8192];
+        long remaining = length;
+        while (remaining > 0) {
+            int n = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (n < 0) {
+                throw new IOException("Unexpected end of request body");
+            }
+            out.write(buffer, 0, n);
+            remaining -= n;
+        }
+    }
+
+    private static byte[] withConnectionClose(byte[] head) {
+        String[] lines = new String(head, StandardCharsets.ISO_8859_1).split("\r\n");
+        StringBuilder rewritten = new StringBuilder(lines[0]).append("\r\n");
+        for (int i = 1; i < lines.length; i++) {
+            if (!lines[i].isEmpty() && !lines[i].toLowerCase(Locale.ROOT).startsWith("connection:")) {
+                rewritten.append(lines[i]).append("\r\n");
+            }
+        }
+        rewritten.append("Connection: close\r\n\r\n");
+        return rewritten.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Request line and headers of a proxied request
+     */
+    private static final class Request {
+        String method;
+        String path;
+        String requestLine;
+        final List<String> headers = new ArrayList<>();
+        long contentLength;
+        boolean chunked;
+
+        static Request parse(byte[] head) throws IOException {
+            String[] lines = new String(head, StandardCharsets.ISO_8859_1).split("\r\n");
+            String[] parts = lines[0].split(" ");
+            if (parts.length < 3) {
+                throw new IOException("Malformed request line: " + lines[0]);
+            }
+            Request request = new Request();
+            request.requestLine = lines[0];
+            request.method = parts[0];
+            int query = parts[1].indexOf('?');
+            request.path = query >= 0 ? parts[1].substring(0, query) : parts[1];
+            for (int i = 1; i < lines.length; i++) {
+                String line = lines[i];
+                if (line.isEmpty()) {
+                    continue;
+                }
+                request.headers.add(line);
+                String lower = line.toLowerCase(Locale.ROOT);
+                if (lower.startsWith("content-length:")) {
+                    request.contentLength = Long.parseLong(line.substring(15).trim());
+                } else if (lower.startsWith("transfer-encoding:") && lower.contains("chunked")) {
+                    request.chunked = true;
+                }
+            }
+            return request;
+        }
+
+        /**
+         * Header block for the upstream request: target Host and one request per connection
+         */
+        byte[] rewriteHead(String host) {
+            StringBuilder head = new StringBuilder(requestLine).append("\r\n");
+            for (String header : headers) {
+                String lower = header.toLowerCase(Locale.ROOT);
+                if (!lower.startsWith("host:") && !lower.startsWith("connection:")) {
+                    head.append(header).append("\r\n");
+                }
+            }
+            head.append("Host: ").append(host).append("\r\n");
+            head.append("Connection: close\r\n\r\n");
+            return head.toString().getBytes(StandardCharsets.ISO_8859_1);
+        }
+    }
+}
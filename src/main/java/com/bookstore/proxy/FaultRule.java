@@ -0,0 +1,63 @@
+package com.bookstore.proxy;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.regex.Pattern;
+
+/**
+ * Faults the proxy injects for requests matching a method and path pattern.
+ * Probabilities are in [0, 1]; a stub status makes the proxy answer itself instead of forwarding.
+ */
+@Value
+@Builder
+public class FaultRule {
+
+    /** Name used for the per-rule request counter */
+    @Builder.Default
+    String name = "default";
+
+    /** HTTP method to match, null for any */
+    String method;
+
+    /** Regular expression matched against the full request path, null for any */
+    String path;
+
+    @Builder.Default
+    Latency latency = Latency.NONE;
+
+    /** Probability of closing the connection without any response */
+    @Builder.Default
+    double dropProbability = 0;
+
+    /** Probability of resetting the connection (TCP RST) instead of responding */
+    @Builder.Default
+    double resetProbability = 0;
+
+    /** Response bandwidth limit in bytes per second, 0 for unlimited */
+    @Builder.Default
+    long bytesPerSecond = 0;
+
+    /** Slow-drip: send the response in chunks of this many bytes, 0 to disable */
+    @Builder.Default
+    int dripChunkBytes = 0;
+
+    /** Slow-drip: pause between chunks */
+    @Builder.Default
+    long dripIntervalMillis = 0;
+
+    /** Answer with this status instead of forwarding upstream, 0 to forward */
+    @Builder.Default
+    int stubStatus = 0;
+
+    @Builder.Default
+    String stubBody = "";
+
+    @Builder.Default
+    String stubContentType = "application/json; charset=utf-8";
+
+    boolean matches(String requestMethod, String requestPath) {
+        return (method == null || method.equalsIgnoreCase(requestMethod))
+                && (path == null || Pattern.matches(path, requestPath));
+    }
+}
@@ -0,0 +1,29 @@
+package com.bookstore.proxy;
+
+import java.util.Random;
+
+/**
+ * Latency distribution sampled by the fault proxy for every matching request
+ */
+@FunctionalInterface
+public interface Latency {
+
+    Latency NONE = random -> 0;
+
+    long sampleMillis(Random random);
+
+    static Latency fixed(long millis) {
+        return random -> millis;
+    }
+
+    static Latency uniform(long minMillis, long maxMillis) {
+        return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+    }
+
+    /**
+     * Log-normal latency: most requests close to the median, with a long tail controlled by sigma
+     */
+    static Latency logNormal(long medianMillis, double sigma) {
+        return random -> Math.round(medianMillis * Math.exp(sigma * random.nextGaussian()));
+    }
+}
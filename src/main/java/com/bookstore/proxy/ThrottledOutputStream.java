@@ -0,0 +1,64 @@
+package com.bookstore.proxy;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Output stream applying a rule's slow-drip and bandwidth limit to everything written
+ */
+class ThrottledOutputStream extends FilterOutputStream {
+
+    // Bandwidth-limited output is paced in 20 slices per second
+    private static final int SLICES_PER_SECOND = 20;
+
+    private final int chunkBytes;
+    private final long pauseNanos;
+
+    ThrottledOutputStream(OutputStream out, FaultRule rule) {
+        super(out);
+        if (rule.getDripChunkBytes() > 0) {
+            this.chunkBytes = rule.getDripChunkBytes();
+            this.pauseNanos = TimeUnit.MILLISECONDS.toNanos(rule.getDripIntervalMillis());
+        } else if (rule.getBytesPerSecond() > 0) {
+            this.chunkBytes = (int) Math.max(1, rule.getBytesPerSecond() / SLICES_PER_SECOND);
+            this.pauseNanos = TimeUnit.SECONDS.toNanos(1) * chunkBytes / rule.getBytesPerSecond();
+        } else {
+            this.chunkBytes = 0;
+            this.pauseNanos = 0;
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+        if (chunkBytes == 0) {
+            out.write(buffer, offset, length);
+            return;
+        }
+        int position = offset;
+        int end = offset + length;
+        while (position < end) {
+            int n = Math.min(chunkBytes, end - position);
+            out.write(buffer, position, n);
+            out.flush();
+            position += n;
+            pause();
+        }
+    }
+
+    private void pause() throws InterruptedIOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(pauseNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while throttling response");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.bookstore.scenario;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Declarative chain of requests with values passed from one response to later requests.
+ * The same definition runs once as a functional test or as many concurrent instances
+ * through {@link ScenarioRunner}.
+ */
+public class Scenario {
+
+    private final String name;
+    private final List<Step> steps = new ArrayList<>();
+    private final Map<String, Function<ScenarioContext, Object>> variables = new LinkedHashMap<>();
+
+    private Scenario(String name) {
+        this.name = name;
+    }
+
+    public static Scenario named(String name) {
+        return new Scenario(name);
+    }
+
+    /**
+     * Initial variable, computed once per instance before the first step (e.g. a fixture book)
+     */
+    public Scenario variable(String variable, Function<ScenarioContext, Object> initializer) {
+        variables.put(variable, initializer);
+        return this;
+    }
+
+    public Scenario step(Step step) {
+        for (Step existing : steps) {
+            if (existing.getName().equals(step.getName())) {
+                throw new IllegalArgumentException("Duplicate step '" + step.getName() + "' in scenario " + name);
+            }
+        }
+        List<String> dependencies = step.getDependencies();
+        if (dependencies != null) {
+            for (String dependency : dependencies) {
+                if (steps.stream().noneMatch(existing -> existing.getName().equals(dependency))) {
+                    throw new IllegalArgumentException("Step '" + step.getName() + "' depends on unknown step '"
+                            + dependency + "'; dependencies must be declared first");
+                }
+            }
+        }
+        steps.add(step);
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Step> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    /**
+     * Names of the steps the given step waits for
+     */
+    List<String> dependenciesOf(int index) {
+        List<String> declared = steps.get(index).getDependencies();
+        if (declared != null) {
+            return declared;
+        }
+        return index == 0 ? Collections.emptyList() : Collections.singletonList(steps.get(index - 1).getName());
+    }
+
+    ScenarioContext newContext(int instance) {
+        ScenarioContext context = new ScenarioContext(instance);
+        for (Map.Entry<String, Function<ScenarioContext, Object>> variable : variables.entrySet()) {
+            context.put(variable.getKey(), variable.getValue().apply(context));
+        }
+        return context;
+    }
+}
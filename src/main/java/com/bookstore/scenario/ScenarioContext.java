@@ -0,0 +1,41 @@
+package com.bookstore.scenario;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Variables of a single scenario instance: initial values plus values extracted from responses
+ */
+public class ScenarioContext {
+
+    private final int instance;
+    private final Map<String, Object> variables = new ConcurrentHashMap<>();
+
+    ScenarioContext(int instance) {
+        this.instance = instance;
+    }
+
+    /**
+     * Index of this instance within the run, starting at 0
+     */
+    public int getInstance() {
+        return instance;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String name) {
+        Object value = variables.get(name);
+        if (value == null) {
+            throw new IllegalStateException("Scenario variable '" + name + "' is not set (instance " + instance + ")");
+        }
+        return (T) value;
+    }
+
+    public void put(String name, Object value) {
+        variables.put(name, value);
+    }
+
+    public boolean has(String name) {
+        return variables.containsKey(name);
+    }
+}
@@ -0,0 +1,119 @@
+package com.bookstore.scenario;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome of a scenario run: per-step counters and latencies plus the first failures
+ */
+public class ScenarioResult {
+
+    private static final int MAX_FAILURES_KEPT = 20;
+
+    private final String scenario;
+    private final Map<String, StepStats> steps = new LinkedHashMap<>();
+    private final LongAdder succeededInstances = new LongAdder();
+    private final LongAdder failedInstances = new LongAdder();
+    private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+    private volatile long durationMillis;
+
+    ScenarioResult(Scenario scenario) {
+        this.scenario = scenario.getName();
+        for (Step step : scenario.getSteps()) {
+            steps.put(step.getName(), new StepStats());
+        }
+    }
+
+    void recordStep(String step, long latencyMillis) {
+        StepStats stats = steps.get(step);
+        stats.executed.increment();
+        stats.totalMillis.add(latencyMillis);
+        stats.maxMillis.accumulateAndGet(latencyMillis, Math::max);
+    }
+
+    void recordFailure(String step, int instance, String message) {
+        steps.get(step).failed.increment();
+        if (failures.size() < MAX_FAILURES_KEPT) {
+            failures.add("instance " + instance + ", step '" + step + "': " + message);
+        }
+    }
+
+    void recordSkipped(String step) {
+        steps.get(step).skipped.increment();
+    }
+
+    void recordInstance(boolean succeeded) {
+        (succeeded ? succeededInstances : failedInstances).increment();
+    }
+
+    void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public long getSucceededInstances() {
+        return succeededInstances.sum();
+    }
+
+    public long getFailedInstances() {
+        return failedInstances.sum();
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public List<String> getFailures() {
+        synchronized (failures) {
+            return new ArrayList<>(failures);
+        }
+    }
+
+    /**
+     * Fail with the first recorded failures if any instance failed
+     */
+    public ScenarioResult assertAllSucceeded() {
+        if (getFailedInstances() > 0) {
+            StringBuilder message = new StringBuilder()
+                    .append(getFailedInstances()).append(" of ")
+                    .append(getFailedInstances() + getSucceededInstances())
+                    .append(" instance(s) of scenario '").append(scenario).append("' failed:");
+            for (String failure : getFailures()) {
+                message.append("\n  - ").append(failure);
+            }
+            throw new AssertionError(message.toString());
+        }
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        long instances = getSucceededInstances() + getFailedInstances();
+        StringBuilder summary = new StringBuilder(String.format(
+                "=== Scenario '%s' ===%nInstances: %d (failed: %d) in %d ms (%.1f instances/s)%n",
+                scenario, instances, getFailedInstances(), durationMillis,
+                durationMillis == 0 ? 0.0 : instances * 1000.0 / durationMillis));
+        summary.append(String.format("%-16s %-9s %-7s %-8s %-8s %s%n", "step", "executed", "failed", "skipped",
+                "avg_ms", "max_ms"));
+        for (Map.Entry<String, StepStats> entry : steps.entrySet()) {
+            StepStats stats = entry.getValue();
+            long executed = stats.executed.sum();
+            summary.append(String.format("%-16s %-9d %-7d %-8d %-8d %d%n", entry.getKey(), executed,
+                    stats.failed.sum(), stats.skipped.sum(),
+                    executed == 0 ? 0 : stats.totalMillis.sum() / executed, stats.maxMillis.get()));
+        }
+        return summary.toString();
+    }
+
+    private static class StepStats {
+        final LongAdder executed = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder skipped = new LongAdder();
+        final LongAdder totalMillis = new LongAdder();
+        final AtomicLong maxMillis = new AtomicLong();
+    }
+}
@@ -0,0 +1,156 @@
+package com.bookstore.scenario;
+
+import com.bookstore.utils.RestClient;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Runs scenario instances. Each instance is a graph of steps chained with CompletableFutures
+ * on a shared worker pool, so a step is scheduled as soon as its dependencies are done:
+ * instances interleave on the workers (pipelining) and independent steps of one instance
+ * run in parallel, instead of every instance blocking a thread for its whole chain.
+ */
+public class ScenarioRunner {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final int concurrency;
+    private final int maxActiveInstances;
+
+    /**
+     * @param concurrency        worker threads, i.e. maximum requests in flight
+     * @param maxActiveInstances maximum instances started but not finished
+     */
+    public ScenarioRunner(int concurrency, int maxActiveInstances) {
+        this.concurrency = concurrency;
+        this.maxActiveInstances = maxActiveInstances;
+    }
+
+    /**
+     * Run a single instance, e.g. as a functional test
+     */
+    public static ScenarioResult runOnce(Scenario scenario) {
+        return new ScenarioRunner(1, 1).run(scenario, 1);
+    }
+
+    public ScenarioResult run(Scenario scenario, int instances) {
+        ScenarioResult result = new ScenarioResult(scenario);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "scenario-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore active = new Semaphore(maxActiveInstances);
+        List<CompletableFuture<Boolean>> running = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            for (int instance = 0; instance < instances; instance++) {
+                active.acquire();
+                CompletableFuture<Boolean> done = startInstance(scenario, instance, workers, result);
+                done.whenComplete((succeeded, error) -> {
+                    result.recordInstance(error == null && succeeded);
+                    active.release();
+                });
+                running.add(done);
+                running.removeIf(CompletableFuture::isDone);
+            }
+            CompletableFuture.allOf(running.toArray(new CompletableFuture[0])).join();
+            // Wait until the completion callbacks of the last instances have been recorded
+            active.acquire(maxActiveInstances);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            workers.shutdownNow();
+            result.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return result;
+    }
+
+    private CompletableFuture<Boolean> startInstance(Scenario scenario, int instance, ExecutorService workers,
+                                                     ScenarioResult result) {
+        List<Step> steps = scenario.getSteps();
+        Map<String, CompletableFuture<Boolean>> outcomes = new HashMap<>();
+
+        CompletableFuture<ScenarioContext> context = CompletableFuture.supplyAsync(
+                () -> scenario.newContext(instance), workers);
+
+        for (int i = 0; i < steps.size(); i++) {
+            Step step = steps.get(i);
+            List<CompletableFuture<Boolean>> dependencies = new ArrayList<>();
+            for (String dependency : scenario.dependenciesOf(i)) {
+                dependencies.add(outcomes.get(dependency));
+            }
+            CompletableFuture<Void> ready = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[0]));
+
+            outcomes.put(step.getName(), ready.thenCombineAsync(context, (ignored, ctx) -> {
+                for (CompletableFuture<Boolean> dependency : dependencies) {
+                    if (!dependency.join()) {
+                        result.recordSkipped(step.getName());
+                        return false;
+                    }
+                }
+                return execute(step, ctx, result);
+            }, workers));
+        }
+
+        return CompletableFuture.allOf(outcomes.values().toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> outcomes.values().stream().allMatch(CompletableFuture::join))
+                .exceptionally(error -> {
+                    result.recordFailure(steps.get(0).getName(), instance, "scenario setup failed: " + error);
+                    return false;
+                });
+    }
+
+    private static boolean execute(Step step, ScenarioContext ctx, ScenarioResult result) {
+        long start = System.nanoTime();
+        try {
+            RequestSpecification request = given().spec(RestClient.getRequestSpec());
+            for (String variable : step.getPathVariables()) {
+                request.pathParam(variable, ctx.get(variable));
+            }
+            if (step.getBody() != null) {
+                request.body(step.getBody().apply(ctx));
+            }
+            Response response = request.request(step.getMethod(), step.getPath());
+            result.recordStep(step.getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            if (step.getExpectedStatus() > 0 && response.getStatusCode() != step.getExpectedStatus()) {
+                result.recordFailure(step.getName(), ctx.getInstance(), "expected status <"
+                        + step.getExpectedStatus() + "> but was <" + response.getStatusCode() + ">");
+                return false;
+            }
+            if (!step.getExtractions().isEmpty()) {
+                JsonNode body = MAPPER.readTree(response.asByteArray());
+                for (Map.Entry<String, String> extraction : step.getExtractions().entrySet()) {
+                    JsonNode value = body.get(extraction.getValue());
+                    if (value == null || value.isNull()) {
+                        result.recordFailure(step.getName(), ctx.getInstance(),
+                                "response has no field '" + extraction.getValue() + "' to extract");
+                        return false;
+                    }
+                    ctx.put(extraction.getKey(), MAPPER.treeToValue(value, Object.class));
+                }
+            }
+            step.getChecks().forEach(check -> check.accept(response, ctx));
+            return true;
+        } catch (AssertionError | RuntimeException | IOException e) {
+            result.recordFailure(step.getName(), ctx.getInstance(), String.valueOf(e.getMessage()));
+            return false;
+        }
+    }
+}
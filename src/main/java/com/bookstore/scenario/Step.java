@@ -0,0 +1,136 @@
+package com.bookstore.scenario;
+
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One request of a scenario. The path may contain {variable} placeholders, sent as
+ * Rest Assured path parameters. By default a step runs after the previous one;
+ * {@link #after(String...)} declares its real dependencies so independent steps can overlap.
+ */
+public class Step {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\w+)}");
+
+    private final String name;
+    private final String method;
+    private final String path;
+    private final List<String> pathVariables = new ArrayList<>();
+    private Function<ScenarioContext, Object> body;
+    private int expectedStatus;
+    private final Map<String, String> extractions = new LinkedHashMap<>();
+    private final List<BiConsumer<Response, ScenarioContext>> checks = new ArrayList<>();
+    private List<String> dependencies;
+
+    private Step(String name, String method, String path) {
+        this.name = name;
+        this.method = method;
+        this.path = path;
+        Matcher matcher = PLACEHOLDER.matcher(path);
+        while (matcher.find()) {
+            pathVariables.add(matcher.group(1));
+        }
+    }
+
+    public static Step get(String name, String path) {
+        return new Step(name, "GET", path);
+    }
+
+    public static Step post(String name, String path) {
+        return new Step(name, "POST", path);
+    }
+
+    public static Step put(String name, String path) {
+        return new Step(name, "PUT", path);
+    }
+
+    public static Step delete(String name, String path) {
+        return new Step(name, "DELETE", path);
+    }
+
+    /**
+     * Request body built from the instance's variables
+     */
+    public Step body(Function<ScenarioContext, Object> body) {
+        this.body = body;
+        return this;
+    }
+
+    public Step expectStatus(int expectedStatus) {
+        this.expectedStatus = expectedStatus;
+        return this;
+    }
+
+    /**
+     * Store a top-level field of the JSON response (e.g. "id") as a variable for later steps
+     */
+    public Step extract(String variable, String field) {
+        extractions.put(variable, field);
+        return this;
+    }
+
+    /**
+     * Additional assertion on the response, e.g. with ResponseAssert
+     */
+    public Step check(BiConsumer<Response, ScenarioContext> check) {
+        checks.add(check);
+        return this;
+    }
+
+    /**
+     * Run after the named steps only; no names makes the step independent of all others
+     */
+    public Step after(String... steps) {
+        this.dependencies = Arrays.asList(steps);
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    List<String> getPathVariables() {
+        return pathVariables;
+    }
+
+    Function<ScenarioContext, Object> getBody() {
+        return body;
+    }
+
+    int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    Map<String, String> getExtractions() {
+        return extractions;
+    }
+
+    List<BiConsumer<Response, ScenarioContext>> getChecks() {
+        return checks;
+    }
+
+    /**
+     * Declared dependencies, or null when the step simply follows the previous one
+     */
+    List<String> getDependencies() {
+        return dependencies == null ? null : Collections.unmodifiableList(dependencies);
+    }
+}
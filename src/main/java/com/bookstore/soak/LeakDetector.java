@@ -0,0 +1,106 @@
+package com.bookstore.soak;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Detects resources that keep growing across soak iterations using a least-squares trend
+ */
+public class LeakDetector {
+
+    /** Minimum goodness of fit for growth to count as a steady trend rather than noise */
+    static final double MIN_R_SQUARED = 0.8;
+
+    private final List<Resource> resources = new ArrayList<>();
+
+    /**
+     * Track a resource; it is reported as leaking when it grows steadily by more than maxGrowth
+     */
+    public LeakDetector track(String name, long maxGrowth, ToLongFunction<ResourceSample> value) {
+        resources.add(new Resource(name, maxGrowth, value));
+        return this;
+    }
+
+    /**
+     * Default resources: heap after GC, threads, file descriptors, sockets and pooled connections
+     */
+    public static LeakDetector withDefaults(long heapGrowthBytes, long threadGrowth, long fdGrowth,
+                                            long connectionGrowth) {
+        return new LeakDetector()
+                .track("heap bytes", heapGrowthBytes, ResourceSample::getHeapUsedBytes)
+                .track("threads", threadGrowth, ResourceSample::getThreadCount)
+                .track("file descriptors", fdGrowth, ResourceSample::getOpenFileDescriptors)
+                .track("sockets", connectionGrowth, ResourceSample::getOpenSockets)
+                .track("pooled connections", connectionGrowth, ResourceSample::getPooledConnections);
+    }
+
+    /**
+     * Trend of every tracked resource over the given (post warm-up) samples
+     */
+    public List<Trend> analyze(List<ResourceSample> samples) {
+        List<Trend> trends = new ArrayList<>();
+        for (Resource resource : resources) {
+            long[] values = samples.stream().mapToLong(resource.value).toArray();
+            if (values.length < 2 || values[0] < 0) {
+                continue;
+            }
+            trends.add(trend(resource, values));
+        }
+        return trends;
+    }
+
+    private static Trend trend(Resource resource, long[] values) {
+        int n = values.length;
+        double meanX = (n - 1) / 2.0;
+        double meanY = 0;
+        for (long value : values) {
+            meanY += value;
+        }
+        meanY /= n;
+
+        double sxy = 0;
+        double sxx = 0;
+        double syy = 0;
+        for (int i = 0; i < n; i++) {
+            double dx = i - meanX;
+            double dy = values[i] - meanY;
+            sxy += dx * dy;
+            sxx += dx * dx;
+            syy += dy * dy;
+        }
+        double slope = sxy / sxx;
+        double rSquared = syy == 0 ? 0 : (sxy * sxy) / (sxx * syy);
+        long growth = values[n - 1] - values[0];
+        boolean leaking = slope > 0 && rSquared >= MIN_R_SQUARED && growth > resource.maxGrowth;
+
+        return new Trend(resource.name, values[0], values[n - 1], growth,
+                resource.maxGrowth, slope, rSquared, leaking);
+    }
+
+    @Value
+    public static class Trend {
+        String resource;
+        long first;
+        long last;
+        long growth;
+        long maxGrowth;
+        double slopePerIteration;
+        double rSquared;
+        boolean leaking;
+    }
+
+    private static class Resource {
+        final String name;
+        final long maxGrowth;
+        final ToLongFunction<ResourceSample> value;
+
+        Resource(String name, long maxGrowth, ToLongFunction<ResourceSample> value) {
+            this.name = name;
+            this.maxGrowth = maxGrowth;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.bookstore.soak;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Client-side resource usage sampled between soak iterations; -1 means not available on this platform
+ */
+@Value
+@Builder
+public class ResourceSample {
+    int iteration;
+    long elapsedMillis;
+    long heapUsedBytes;
+    long threadCount;
+    long openFileDescriptors;
+    long openSockets;
+    long pooledConnections;
+    boolean suitePassed;
+}
@@ -0,0 +1,86 @@
+package com.bookstore.soak;
+
+import com.bookstore.utils.HttpClientPool;
+import org.apache.http.pool.PoolStats;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Samples heap after GC, threads, file descriptors and connections of the current JVM
+ */
+public final class ResourceSampler {
+
+    private static final Path PROC_FD = Paths.get("/proc/self/fd");
+    private static final int GC_ROUNDS = 3;
+
+    private ResourceSampler() {
+    }
+
+    public static ResourceSample sample(int iteration, long elapsedMillis, boolean suitePassed) {
+        return ResourceSample.builder()
+                .iteration(iteration)
+                .elapsedMillis(elapsedMillis)
+                .heapUsedBytes(heapAfterGc())
+                .threadCount(ManagementFactory.getThreadMXBean().getThreadCount())
+                .openFileDescriptors(openFileDescriptors())
+                .openSockets(openSockets())
+                .pooledConnections(pooledConnections())
+                .suitePassed(suitePassed)
+                .build();
+    }
+
+    /**
+     * Used heap after a few full collections, so garbage still waiting to be collected is not counted
+     */
+    static long heapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            memory.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    static long openFileDescriptors() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.UnixOperatingSystemMXBean) {
+            return ((com.sun.management.UnixOperatingSystemMXBean) os).getOpenFileDescriptorCount();
+        }
+        return -1;
+    }
+
+    /**
+     * Sockets held by this process (Linux only, read from /proc/self/fd)
+     */
+    static long openSockets() {
+        if (!Files.isDirectory(PROC_FD)) {
+            return -1;
+        }
+        long sockets = 0;
+        try (DirectoryStream<Path> fds = Files.newDirectoryStream(PROC_FD)) {
+            for (Path fd : fds) {
+                try {
+                    if (Files.readSymbolicLink(fd).toString().startsWith("socket:")) {
+                        sockets++;
+                    }
+                } catch (IOException e) {
+                    // Descriptor closed while listing
+                }
+            }
+        } catch (IOException e) {
+            return -1;
+        }
+        return sockets;
+    }
+
+    static long pooledConnections() {
+        PoolStats stats = HttpClientPool.stats();
+        return stats != null ? stats.getLeased() + stats.getAvailable() : -1;
+    }
+}
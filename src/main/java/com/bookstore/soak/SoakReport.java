@@ -0,0 +1,52 @@
+package com.bookstore.soak;
+
+import java.util.List;
+
+/**
+ * Plain-text trend report of a soak run
+ */
+public final class SoakReport {
+
+    private SoakReport() {
+    }
+
+    public static String format(List<ResourceSample> samples, int warmupIterations, List<LeakDetector.Trend> trends) {
+        StringBuilder report = new StringBuilder();
+        long failedIterations = samples.stream().filter(sample -> !sample.isSuitePassed()).count();
+
+        report.append("=== Soak Report ===\n");
+        report.append(String.format("Iterations: %d (warm-up: %d, failed suite runs: %d)%n",
+                samples.size(), warmupIterations, failedIterations));
+        report.append("\n");
+        report.append(String.format("%-5s %-10s %-10s %-8s %-6s %-8s %-6s %s%n",
+                "iter", "elapsed_s", "heap_mb", "threads", "fds", "sockets", "pool", "suite"));
+        for (ResourceSample sample : samples) {
+            report.append(String.format("%-5d %-10d %-10.1f %-8d %-6d %-8d %-6d %s%s%n",
+                    sample.getIteration(),
+                    sample.getElapsedMillis() / 1000,
+                    sample.getHeapUsedBytes() / (1024.0 * 1024.0),
+                    sample.getThreadCount(),
+                    sample.getOpenFileDescriptors(),
+                    sample.getOpenSockets(),
+                    sample.getPooledConnections(),
+                    sample.isSuitePassed() ? "passed" : "FAILED",
+                    sample.getIteration() <= warmupIterations ? " (warm-up)" : ""));
+        }
+
+        report.append("\n");
+        report.append(String.format("%-20s %-14s %-14s %-14s %-14s %-14s %-6s %s%n",
+                "resource", "first", "last", "growth", "max_growth", "slope/iter", "r2", "verdict"));
+        for (LeakDetector.Trend trend : trends) {
+            report.append(String.format("%-20s %-14d %-14d %-14d %-14d %-14.1f %-6.2f %s%n",
+                    trend.getResource(),
+                    trend.getFirst(),
+                    trend.getLast(),
+                    trend.getGrowth(),
+                    trend.getMaxGrowth(),
+                    trend.getSlopePerIteration(),
+                    trend.getRSquared(),
+                    trend.isLeaking() ? "LEAK" : "ok"));
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.bookstore.streaming;
+
+import com.bookstore.models.Book;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Streaming generators for large Book payloads: books with multi-MB description/excerpt
+ * and bulk arrays of books, produced segment by segment instead of built in memory
+ */
+public class BookPayloads {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final int segmentBytes;
+
+    /**
+     * @param segmentBytes size of the generated text segments, i.e. the most payload held at once
+     */
+    public BookPayloads(int segmentBytes) {
+        this.segmentBytes = segmentBytes;
+    }
+
+    /**
+     * The given book with its description and excerpt replaced by generated text of the given sizes
+     */
+    public StreamingBody largeBook(Book book, long descriptionBytes, long excerptBytes) {
+        return new StreamingBody(
+                String.format("book %d, description %d bytes, excerpt %d bytes",
+                        book.getId(), descriptionBytes, excerptBytes),
+                Segments.concat(Arrays.asList(
+                        Segments.of(utf8("{\"id\":" + json(book.getId()) + ",\"title\":" + json(book.getTitle())
+                                + ",\"description\":\"")),
+                        Segments.text(descriptionBytes, segmentBytes),
+                        Segments.of(utf8("\",\"pageCount\":" + json(book.getPageCount()) + ",\"excerpt\":\"")),
+                        Segments.text(excerptBytes, segmentBytes),
+                        Segments.of(utf8("\",\"publishDate\":" + json(book.getPublishDate()) + "}")))));
+    }
+
+    /**
+     * JSON array of count books, each one created and serialized only when the client reaches it
+     */
+    public StreamingBody bulk(int count, IntFunction<Book> books) {
+        return new StreamingBody("bulk array of " + count + " books",
+                Segments.sequence(count + 2, index -> {
+                    if (index == 0) {
+                        return Segments.of(utf8("["));
+                    }
+                    if (index == count + 1) {
+                        return Segments.of(utf8("]"));
+                    }
+                    byte[] book = serialize(books.apply(index - 1));
+                    return index == 1 ? Segments.of(book) : Segments.of(utf8(","), book);
+                }));
+    }
+
+    private static byte[] serialize(Object value) {
+        try {
+            return MAPPER.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String json(Object value) {
+        return new String(serialize(value), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,89 @@
+package com.bookstore.streaming;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+
+/**
+ * Lazy segment generators for {@link StreamingBody}
+ */
+final class Segments {
+
+    private static final byte[] FILLER = ("The quick brown fox jumps over the lazy dog while the bookstore "
+            + "streams another chapter of a very long description. ").getBytes(StandardCharsets.US_ASCII);
+
+    private Segments() {
+    }
+
+    static Iterator<byte[]> of(byte[]... segments) {
+        return Arrays.asList(segments).iterator();
+    }
+
+    /**
+     * Plain ASCII text of exactly the given length, safe inside a JSON string; a single
+     * buffer of segmentBytes is reused for every segment
+     */
+    static Iterator<byte[]> text(long length, int segmentBytes) {
+        byte[] buffer = new byte[(int) Math.min(segmentBytes, Math.max(length, 0))];
+        for (int i = 0; i < buffer.length; i++) {
+            buffer[i] = FILLER[i % FILLER.length];
+        }
+        return new Iterator<byte[]>() {
+            private long remaining = length;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public byte[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                byte[] next = remaining >= buffer.length ? buffer : Arrays.copyOf(buffer, (int) remaining);
+                remaining -= next.length;
+                return next;
+            }
+        };
+    }
+
+    /**
+     * The given parts one after the other
+     */
+    static Iterator<byte[]> concat(List<Iterator<byte[]>> parts) {
+        return sequence(parts.size(), parts::get);
+    }
+
+    /**
+     * Parts produced on demand: part i is only created once part i - 1 is exhausted
+     */
+    static Iterator<byte[]> sequence(int count, IntFunction<Iterator<byte[]>> part) {
+        return new Iterator<byte[]>() {
+            private int index;
+            private Iterator<byte[]> current = Segments.of();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext()) {
+                    if (index == count) {
+                        return false;
+                    }
+                    current = part.apply(index++);
+                }
+                return true;
+            }
+
+            @Override
+            public byte[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+}
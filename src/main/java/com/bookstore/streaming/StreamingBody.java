@@ -0,0 +1,120 @@
+package com.bookstore.streaming;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Iterator;
+
+/**
+ * Request body pulled segment by segment from a generator while the HTTP client writes it,
+ * so only the current segment is on the heap. Sent with chunked transfer encoding by
+ * {@link StreamingBodyFilter}. Records bytes, upload time and heap allocated while uploading.
+ * A body can be sent once; create a new one for every request.
+ */
+public class StreamingBody extends InputStream {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final String description;
+    private final Iterator<byte[]> segments;
+    private byte[] segment;
+    private int position;
+    private long bytesRead;
+    private long startNanos;
+    private long endNanos;
+    private long startAllocated = -1;
+    private long allocatedBytes = -1;
+    private boolean finished;
+
+    /**
+     * @param description shown instead of the content by request logging and reports
+     * @param segments    generator of the body content; segments may be reused once consumed
+     */
+    public StreamingBody(String description, Iterator<byte[]> segments) {
+        this.description = description;
+        this.segments = segments;
+    }
+
+    @Override
+    public int read() {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (startNanos == 0) {
+            startNanos = System.nanoTime();
+            startAllocated = allocatedByCurrentThread();
+        }
+        while (segment == null || position == segment.length) {
+            if (finished || !segments.hasNext()) {
+                finish();
+                return -1;
+            }
+            segment = segments.next();
+            position = 0;
+        }
+        int count = Math.min(length, segment.length - position);
+        System.arraycopy(segment, position, buffer, offset, count);
+        position += count;
+        bytesRead += count;
+        return count;
+    }
+
+    private void finish() {
+        if (!finished) {
+            finished = true;
+            endNanos = System.nanoTime();
+            long endAllocated = allocatedByCurrentThread();
+            if (startAllocated >= 0 && endAllocated >= 0) {
+                allocatedBytes = endAllocated - startAllocated;
+            }
+            segment = null;
+        }
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * True once the generator is exhausted, i.e. the whole body was handed to the client
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Time from the first to the last byte handed to the client, 0 if not finished
+     */
+    public long getUploadNanos() {
+        return finished ? endNanos - startNanos : 0;
+    }
+
+    /**
+     * Heap allocated by the uploading thread while sending the body, -1 if not measurable
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "<streaming body: " + description + ">";
+    }
+
+    private static long allocatedByCurrentThread() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
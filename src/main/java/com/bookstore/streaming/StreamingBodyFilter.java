@@ -0,0 +1,46 @@
+package com.bookstore.streaming;
+
+import com.bookstore.utils.ApiRoutes;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Rest Assured filter that sends {@link StreamingBody} request bodies as chunked streams
+ * and records them in {@link UploadStats}. Rest Assured reads an InputStream fully into
+ * memory for JSON content types, so for these bodies only the content type is encoded as
+ * binary, which hands the stream to the HTTP client with unknown length; the Content-Type
+ * header is unchanged.
+ */
+public class StreamingBodyFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!(requestSpec.getBody() instanceof StreamingBody)) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        StreamingBody body = requestSpec.getBody();
+        String contentType = requestSpec.getContentType();
+        if (contentType != null) {
+            RestAssuredConfig config = requestSpec.getConfig();
+            requestSpec.config(config.encoderConfig(config.getEncoderConfig()
+                    .encodeContentTypeAs(mimeType(contentType), ContentType.BINARY)));
+        }
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            UploadStats.record(requestSpec.getMethod(), ApiRoutes.normalize(requestSpec.getUserDefinedPath()), body);
+        }
+    }
+
+    private static String mimeType(String contentType) {
+        int parameters = contentType.indexOf(';');
+        return (parameters < 0 ? contentType : contentType.substring(0, parameters)).trim();
+    }
+}
@@ -0,0 +1,50 @@
+package com.bookstore.streaming;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Plain-text per-route throughput and memory report of streamed uploads
+ */
+public final class UploadReport {
+
+    private static final double MB = 1024 * 1024;
+
+    private UploadReport() {
+    }
+
+    public static String format(List<UploadStats.RouteTotals> routes, long peakHeapUsed, long maxHeap) {
+        StringBuilder report = new StringBuilder("=== Streaming Upload Report ===\n");
+        report.append(String.format("%-8s %-24s %-8s %-11s %-10s %-13s %-10s %s%n",
+                "method", "path", "uploads", "incomplete", "total_mb", "max_body_mb", "mb_per_s", "max_alloc_mb"));
+        for (UploadStats.RouteTotals route : routes) {
+            report.append(String.format("%-8s %-24s %-8d %-11d %-10.1f %-13.1f %-10.1f %.2f%n",
+                    route.getMethod(), route.getPath(), route.getUploads(), route.getIncompleteUploads(),
+                    route.getBytes() / MB, route.getMaxBodyBytes() / MB, route.getBytesPerSecond() / MB,
+                    route.getMaxAllocatedBytes() / MB));
+        }
+        report.append(String.format("Peak heap used after an upload: %.1f MB of %.1f MB max%n",
+                peakHeapUsed / MB, maxHeap / MB));
+        return report.toString();
+    }
+
+    public static void write(Path path) {
+        List<UploadStats.RouteTotals> routes = UploadStats.snapshot();
+        if (routes.isEmpty()) {
+            return;
+        }
+        String report = format(routes, UploadStats.peakHeapUsed(), UploadStats.maxHeap());
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.write(path, report.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("Failed to write upload report: " + e.getMessage());
+        }
+        System.out.println(report);
+    }
+}
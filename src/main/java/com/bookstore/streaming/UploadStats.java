@@ -0,0 +1,108 @@
+package com.bookstore.streaming;
+
+import lombok.Value;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per method and route throughput and memory of streamed uploads
+ */
+public final class UploadStats {
+
+    private static final Map<String, Route> ROUTES = new ConcurrentHashMap<>();
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+    private static final AtomicLong PEAK_HEAP_USED = new AtomicLong();
+
+    private UploadStats() {
+    }
+
+    public static void record(String method, String path, StreamingBody body) {
+        Route route = ROUTES.computeIfAbsent(method + " " + path, key -> new Route(method, path));
+        route.uploads.increment();
+        if (!body.isFinished()) {
+            route.incomplete.increment();
+        }
+        route.bytes.add(body.getBytesRead());
+        route.uploadNanos.add(body.getUploadNanos());
+        if (body.getAllocatedBytes() >= 0) {
+            route.maxAllocated.accumulateAndGet(body.getAllocatedBytes(), Math::max);
+        }
+        route.maxBytes.accumulateAndGet(body.getBytesRead(), Math::max);
+        PEAK_HEAP_USED.accumulateAndGet(MEMORY.getHeapMemoryUsage().getUsed(), Math::max);
+    }
+
+    /**
+     * Totals per route, most uploaded bytes first
+     */
+    public static List<RouteTotals> snapshot() {
+        List<RouteTotals> totals = new ArrayList<>();
+        for (Route route : ROUTES.values()) {
+            totals.add(new RouteTotals(route.method, route.path, route.uploads.sum(), route.incomplete.sum(),
+                    route.bytes.sum(), route.maxBytes.get(), route.uploadNanos.sum(), route.maxAllocated.get()));
+        }
+        totals.sort(Comparator.comparingLong(RouteTotals::getBytes).reversed());
+        return totals;
+    }
+
+    /**
+     * Forget all totals and the heap peak, so a report only covers the current suite run
+     */
+    public static void reset() {
+        ROUTES.clear();
+        PEAK_HEAP_USED.set(0);
+    }
+
+    /**
+     * Highest heap usage seen right after an upload
+     */
+    public static long peakHeapUsed() {
+        return PEAK_HEAP_USED.get();
+    }
+
+    public static long maxHeap() {
+        return MEMORY.getHeapMemoryUsage().getMax();
+    }
+
+    @Value
+    public static class RouteTotals {
+        String method;
+        String path;
+        long uploads;
+        long incompleteUploads;
+        long bytes;
+        long maxBodyBytes;
+        long uploadNanos;
+        long maxAllocatedBytes;
+
+        /**
+         * Bytes per second while bodies were being sent, summed over uploads (not wall clock)
+         */
+        public double getBytesPerSecond() {
+            return uploadNanos == 0 ? 0 : bytes * 1e9 / uploadNanos;
+        }
+    }
+
+    private static class Route {
+        final String method;
+        final String path;
+        final LongAdder uploads = new LongAdder();
+        final LongAdder incomplete = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final LongAdder uploadNanos = new LongAdder();
+        final AtomicLong maxBytes = new AtomicLong();
+        final AtomicLong maxAllocated = new AtomicLong();
+
+        Route(String method, String path) {
+            this.method = method;
+            this.path = path;
+        }
+    }
+}
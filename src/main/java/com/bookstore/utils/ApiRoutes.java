@@ -0,0 +1,26 @@
+package com.bookstore.utils;
+
+import java.util.regex.Pattern;
+
+/**
+ * Utility for grouping request paths into routes, e.g. /Books/201 becomes /Books/{id}
+ */
+public final class ApiRoutes {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/-?\\d+(?=/|$)");
+
+    private ApiRoutes() {
+    }
+
+    /**
+     * Replace numeric path segments with {id} so per-route statistics stay bounded
+     */
+    public static String normalize(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        int query = path.indexOf('?');
+        String withoutQuery = query >= 0 ? path.substring(0, query) : path;
+        return NUMERIC_SEGMENT.matcher(withoutQuery).replaceAll("/{id}");
+    }
+}
@@ -0,0 +1,51 @@
+package com.bookstore.utils;
+
+import com.bookstore.config.TestConfig;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+/**
+ * Shared pooled HTTP client, used by {@link RestClient} when http.pool.enabled is set.
+ * Rest Assured otherwise opens a new client (and connection) for every request.
+ */
+@SuppressWarnings("deprecation")
+public final class HttpClientPool {
+
+    private static PoolingClientConnectionManager connectionManager;
+
+    private HttpClientPool() {
+    }
+
+    /**
+     * Client factory backed by the shared pool; use with reuseHttpClientInstance()
+     */
+    public static synchronized HttpClientConfig.HttpClientFactory factory() {
+        if (connectionManager == null) {
+            TestConfig config = TestConfig.getInstance();
+            connectionManager = new PoolingClientConnectionManager();
+            connectionManager.setMaxTotal(config.getPoolMaxTotal());
+            connectionManager.setDefaultMaxPerRoute(config.getPoolMaxPerRoute());
+        }
+        PoolingClientConnectionManager manager = connectionManager;
+        return () -> new DefaultHttpClient(manager);
+    }
+
+    /**
+     * Current pool statistics, or null when pooling is not in use
+     */
+    public static synchronized PoolStats stats() {
+        return connectionManager != null ? connectionManager.getTotalStats() : null;
+    }
+
+    /**
+     * Close all pooled connections; the next request spec creates a fresh pool
+     */
+    public static synchronized void shutdown() {
+        if (connectionManager != null) {
+            connectionManager.shutdown();
+            connectionManager = null;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.bookstore.utils;
+
+import com.bookstore.streaming.StreamingBody;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utility methods for inspecting request bodies inside Rest Assured filters
+ */
+public final class RequestBodies {
+
+    private RequestBodies() {
+    }
+
+    /**
+     * Size of an already serialized request body, or -1 when it is not known up front
+     */
+    public static long size(Object body) {
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8).length;
+        }
+        return -1;
+    }
+
+    /**
+     * Size of the body once the request was sent: like {@link #size(Object)}, but streamed
+     * bodies report the bytes actually handed to the client
+     */
+    public static long sentSize(Object body) {
+        if (body instanceof StreamingBody) {
+            return ((StreamingBody) body).getBytesRead();
+        }
+        return size(body);
+    }
+}
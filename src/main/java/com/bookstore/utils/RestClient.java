@@ -1,11 +1,22 @@
 package com.bookstore.utils;
 
+import com.bookstore.bandwidth.BandwidthFilter;
+import com.bookstore.bandwidth.Compression;
+import com.bookstore.bandwidth.RequestCompressionFilter;
+import com.bookstore.bandwidth.WireBytes;
 import com.bookstore.config.TestConfig;
+import com.bookstore.jfr.JfrFilter;
+import com.bookstore.metrics.MetricsFilter;
+import com.bookstore.streaming.StreamingBodyFilter;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.filter.log.LogDetail;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.params.CoreConnectionPNames;
 
 /**
  * Utility class for creating Rest Assured request specifications
@@ -32,11 +43,64 @@ public class RestClient {
                 builder.log(LogDetail.ALL);
             }
             
+            // Account wire vs decoded bytes if enabled; added before compression so it sees both sizes
+            if (config.isBandwidthAccountingEnabled()) {
+                builder.addFilter(new BandwidthFilter());
+            }
+            
+            // Compress request bodies if configured; added before the other filters
+            // so they see the body as sent on the wire
+            Compression requestCompression = Compression.fromName(config.getRequestCompression());
+            if (requestCompression != Compression.NONE) {
+                builder.addFilter(new RequestCompressionFilter(requestCompression,
+                        config.getRequestCompressionMinBytes()));
+            }
+            
+            // Emit Flight Recorder events for every API call if enabled
+            if (config.isJfrEnabled()) {
+                builder.addFilter(new JfrFilter());
+            }
+            
+            // Feed the in-process metrics registry if enabled
+            if (config.isMetricsEnabled()) {
+                builder.addFilter(new MetricsFilter());
+            }
+            
+            // Send streaming request bodies chunked instead of buffering them
+            builder.addFilter(new StreamingBodyFilter());
+            
+            builder.setConfig(RestAssuredConfig.config()
+                    .httpClient(httpClientConfig(config))
+                    .decoderConfig(Compression.decoderConfig(config.getResponseCompression())));
+            
+            // Pooled connections are only released once the body is read
+            if (config.isHttpPoolEnabled()) {
+                builder.addFilter(new ResponseBufferingFilter());
+            }
+            
             requestSpec = builder.build();
         }
         return requestSpec;
     }
     
+    /**
+     * HTTP client config: configured timeouts, a shared pooled client and wire byte counting if enabled
+     */
+    @SuppressWarnings("deprecation")
+    private static HttpClientConfig httpClientConfig(TestConfig config) {
+        HttpClientConfig.HttpClientFactory factory = config.isHttpPoolEnabled()
+                ? HttpClientPool.factory()
+                : DefaultHttpClient::new;
+        if (config.isBandwidthAccountingEnabled()) {
+            factory = WireBytes.counting(factory);
+        }
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+                .httpClientFactory(factory)
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, config.getConnectionTimeout())
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, config.getSocketTimeout());
+        return config.isHttpPoolEnabled() ? httpClientConfig.reuseHttpClientInstance() : httpClientConfig;
+    }
+    
     /**
      * Reset the request specification (useful for changing configurations)
      */
@@ -1,14 +1,29 @@
 package com.bookstore.base;
 
+import com.bookstore.bandwidth.BandwidthReport;
+import com.bookstore.bandwidth.BandwidthStats;
 import com.bookstore.config.TestConfig;
+import com.bookstore.fixtures.BookFactory;
+import com.bookstore.jfr.FlightRecording;
+import com.bookstore.metrics.MetricsExporter;
+import com.bookstore.streaming.UploadReport;
+import com.bookstore.streaming.UploadStats;
 import com.bookstore.utils.RestClient;
 import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
 import io.restassured.filter.log.RequestLoggingFilter;
 import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.specification.RequestSpecification;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Base test class that all test classes should extend
@@ -16,23 +31,44 @@ import org.testng.annotations.BeforeMethod;
  */
 public class BaseTest {
     
+    /** Suite parameter; "false" keeps the run out of the Allure report (set for nested soak runs) */
+    public static final String ALLURE_REPORTING = "allure.reporting";
+    
     protected TestConfig config;
     protected RequestSpecification requestSpec;
+    protected BookFactory bookFactory;
+    
+    @BeforeSuite(alwaysRun = true)
+    public void setupSuite() {
+        // Start JFR recording if enabled (jfr.enabled)
+        FlightRecording.start();
+        // Start metrics endpoint and textfile writer if enabled (metrics.enabled)
+        MetricsExporter.start();
+        // Every suite run (also each soak iteration) gets its own fixture id range
+        BookFactory.getInstance().startRun();
+        // Per-run reports start from zero, also in soak iterations and load runs in the same JVM
+        BandwidthStats.reset();
+        UploadStats.reset();
+    }
     
-    @BeforeClass
-    public void setupClass() {
+    @BeforeClass(alwaysRun = true)
+    public void setupClass(ITestContext context) {
         config = TestConfig.getInstance();
+        bookFactory = BookFactory.getInstance();
         
         // Set base URI and path globally
         RestAssured.baseURI = config.getBaseUrl();
         RestAssured.basePath = config.getBasePath();
         
         // Add Allure filter for better reporting
-        RestAssured.filters(
-                new AllureRestAssured(),
-                new RequestLoggingFilter(),
-                new ResponseLoggingFilter()
-        );
+        // Replace rather than append, so filters don't pile up per class or soak iteration
+        List<Filter> filters = new ArrayList<>();
+        if (!"false".equals(context.getCurrentXmlTest().getParameter(ALLURE_REPORTING))) {
+            filters.add(new AllureRestAssured());
+        }
+        filters.add(new RequestLoggingFilter());
+        filters.add(new ResponseLoggingFilter());
+        RestAssured.replaceFiltersWith(filters);
         
         System.out.println("=== Test Configuration ===");
         System.out.println("Base URL: " + config.getBaseUrl());
@@ -40,10 +76,25 @@ public class BaseTest {
         System.out.println("==========================");
     }
     
-    @BeforeMethod
+    @BeforeMethod(alwaysRun = true)
     public void setupMethod() {
         // Get fresh request specification for each test
         requestSpec = RestClient.getRequestSpec();
     }
+    
+    @AfterSuite(alwaysRun = true)
+    public void tearDownSuite() {
+        // Delete every book created during the suite
+        List<Integer> leftovers = BookFactory.getInstance().cleanup();
+        if (!leftovers.isEmpty()) {
+            System.err.println("Failed to clean up books: " + leftovers);
+        }
+        TestConfig suiteConfig = TestConfig.getInstance();
+        if (suiteConfig.isBandwidthAccountingEnabled()) {
+            BandwidthReport.write(Paths.get(suiteConfig.getBandwidthReportPath()));
+        }
+        UploadReport.write(Paths.get(suiteConfig.getStreamingReportPath()));
+        MetricsExporter.stop();
+        FlightRecording.stop();
+    }
 }
-
@@ -0,0 +1,75 @@
+package com.bookstore.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The /metrics endpoint and textfile writer, on a private registry
+ */
+public class MetricsExporterTest {
+
+    @Test(priority = 1,
+          description = "01 - Scrape /metrics - verify the registry is served as OpenMetrics on the loopback address",
+          groups = {"metrics"})
+    public void test_01_Scrape_ShouldServeRegistry() throws IOException {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("api_requests", "API requests sent").labels().inc(5);
+
+        HttpServer server = MetricsExporter.serve(registry,
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        try {
+            InetSocketAddress address = server.getAddress();
+            assertThat(address.getAddress().isLoopbackAddress()).isTrue();
+
+            HttpURLConnection connection = (HttpURLConnection) new URL(
+                "http://127.0.0.1:" + address.getPort() + "/metrics").openConnection();
+            try (InputStream body = connection.getInputStream()) {
+                assertThat(connection.getResponseCode()).isEqualTo(200);
+                assertThat(connection.getContentType()).isEqualTo(OpenMetricsFormat.CONTENT_TYPE);
+                assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo(OpenMetricsFormat.write(registry))
+                    .contains("api_requests_total 5\n");
+            } finally {
+                connection.disconnect();
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test(priority = 2,
+          description = "02 - Write the textfile - verify parent directories are created and no temporary file is left",
+          groups = {"metrics"})
+    public void test_02_WriteTextfile_ShouldReplaceFile() throws IOException {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter requests = registry.counter("api_requests", "API requests sent");
+        Path directory = Files.createTempDirectory("metrics");
+        Path textfile = directory.resolve("nested").resolve("api-tests.prom");
+        try {
+            requests.labels().inc();
+            MetricsExporter.writeTextfile(registry, textfile);
+            requests.labels().inc();
+            MetricsExporter.writeTextfile(registry, textfile);
+
+            assertThat(textfile).hasContent(OpenMetricsFormat.write(registry));
+            assertThat(Files.readString(textfile)).contains("api_requests_total 2\n");
+            assertThat(textfile.resolveSibling("api-tests.prom.tmp")).doesNotExist();
+        } finally {
+            Files.deleteIfExists(textfile);
+            Files.deleteIfExists(textfile.getParent());
+            Files.deleteIfExists(directory);
+        }
+    }
+}
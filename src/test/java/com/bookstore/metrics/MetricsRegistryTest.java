@@ -0,0 +1,99 @@
+package com.bookstore.metrics;
+
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * Registry and metric types, without any API call
+ */
+public class MetricsRegistryTest {
+
+    @Test(priority = 1,
+          description = "01 - Register a family twice - verify the first registration is returned",
+          groups = {"metrics"})
+    public void test_01_RegisterTwice_ShouldReturnSameFamily() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter first = registry.counter("requests", "Requests", "method");
+        Counter second = registry.counter("requests", "Other help", "method");
+
+        assertThat(second).isSameAs(first);
+        assertThat(registry.getMetrics()).containsExactly(first);
+    }
+
+    @Test(priority = 2,
+          description = "02 - Register a name with another type - verify it is rejected",
+          groups = {"metrics"})
+    public void test_02_RegisterOtherType_ShouldBeRejected() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("requests", "Requests");
+
+        assertThatThrownBy(() -> registry.gauge("requests", "Requests"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("already registered as a counter");
+    }
+
+    @Test(priority = 3,
+          description = "03 - Families are listed sorted by name",
+          groups = {"metrics"})
+    public void test_03_GetMetrics_ShouldBeSortedByName() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.gauge("b_in_flight", "In flight");
+        registry.counter("c_requests", "Requests");
+        registry.histogram("a_latency", "Latency", Histogram.LATENCY_BUCKETS);
+
+        assertThat(registry.getMetrics())
+            .extracting(Metric::getName)
+            .containsExactly("a_latency", "b_in_flight", "c_requests");
+    }
+
+    @Test(priority = 4,
+          description = "04 - Counter - verify children per label values, and wrong labels or decrements are rejected",
+          groups = {"metrics"})
+    public void test_04_Counter_ShouldCountPerLabelValues() {
+        Counter counter = new MetricsRegistry().counter("requests", "Requests", "method", "path");
+        counter.labels("GET", "/Books").inc();
+        counter.labels("GET", "/Books").inc(2);
+        counter.labels("POST", "/Books").inc();
+
+        assertThat(counter.labels("GET", "/Books").get()).isEqualTo(3);
+        assertThat(counter.labels("POST", "/Books").get()).isEqualTo(1);
+        assertThatThrownBy(() -> counter.labels("GET"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("expects labels [method, path]");
+        assertThatThrownBy(() -> counter.labels("GET", "/Books").inc(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test(priority = 5,
+          description = "05 - Gauge - verify inc/dec and that a supplier takes over the value",
+          groups = {"metrics"})
+    public void test_05_Gauge_ShouldUseSupplierWhenSet() {
+        Gauge.Child gauge = new MetricsRegistry().gauge("in_flight", "In flight").labels();
+        gauge.inc();
+        gauge.inc();
+        gauge.dec();
+        assertThat(gauge.get()).isEqualTo(1);
+
+        gauge.setSupplier(() -> 42);
+        assertThat(gauge.get()).isEqualTo(42);
+    }
+
+    @Test(priority = 6,
+          description = "06 - Histogram - verify observations land in cumulative buckets with a +Inf bucket and sum",
+          groups = {"metrics"})
+    public void test_06_Histogram_ShouldCumulateBuckets() {
+        Histogram.Child histogram = new MetricsRegistry()
+            .histogram("latency", "Latency", new double[]{1, 0.1}).labels();
+        histogram.observe(0.05);
+        histogram.observe(0.1);
+        histogram.observe(0.5);
+        histogram.observe(3);
+
+        // Bounds are sorted: <= 0.1, <= 1, +Inf
+        assertThat(histogram.cumulativeCounts()).containsExactly(2, 3, 4);
+        assertThat(histogram.getSum()).isCloseTo(3.65, offset(1e-9));
+    }
+}
@@ -0,0 +1,59 @@
+package com.bookstore.metrics;
+
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OpenMetrics text output of a registry
+ */
+public class OpenMetricsFormatTest {
+
+    @Test(priority = 1,
+          description = "01 - Write an empty registry - verify only the EOF marker is written",
+          groups = {"metrics"})
+    public void test_01_EmptyRegistry_ShouldOnlyWriteEof() {
+        assertThat(OpenMetricsFormat.write(new MetricsRegistry())).isEqualTo("# EOF\n");
+    }
+
+    @Test(priority = 2,
+          description = "02 - Write counters, gauges and histograms - verify type, help and samples per family",
+          groups = {"metrics"})
+    public void test_02_AllTypes_ShouldWriteFamiliesAndSamples() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("api_requests", "API requests sent", "method", "path").labels("GET", "/Books").inc(3);
+        registry.gauge("api_in_flight", "In flight").labels().inc();
+        Histogram.Child latency = registry.histogram("api_latency", "Latency", new double[]{0.1, 1}, "method")
+            .labels("GET");
+        latency.observe(0.05);
+        latency.observe(2);
+
+        assertThat(OpenMetricsFormat.write(registry)).isEqualTo(
+            "# TYPE api_in_flight gauge\n"
+                + "# HELP api_in_flight In flight\n"
+                + "api_in_flight 1\n"
+                + "# TYPE api_latency histogram\n"
+                + "# HELP api_latency Latency\n"
+                + "api_latency_bucket{method=\"GET\",le=\"0.1\"} 1\n"
+                + "api_latency_bucket{method=\"GET\",le=\"1.0\"} 1\n"
+                + "api_latency_bucket{method=\"GET\",le=\"+Inf\"} 2\n"
+                + "api_latency_count{method=\"GET\"} 2\n"
+                + "api_latency_sum{method=\"GET\"} 2.05\n"
+                + "# TYPE api_requests counter\n"
+                + "# HELP api_requests API requests sent\n"
+                + "api_requests_total{method=\"GET\",path=\"/Books\"} 3\n"
+                + "# EOF\n");
+    }
+
+    @Test(priority = 3,
+          description = "03 - Write label values and help with quotes, backslashes and newlines - verify they are escaped",
+          groups = {"metrics"})
+    public void test_03_SpecialCharacters_ShouldBeEscaped() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("errors", "Errors\nby \"path\"", "path").labels("/a\\b\"c\"").inc();
+
+        assertThat(OpenMetricsFormat.write(registry))
+            .contains("# HELP errors Errors\\nby \\\"path\\\"\n")
+            .contains("errors_total{path=\"/a\\\\b\\\"c\\\"\"} 1\n");
+    }
+}
@@ -0,0 +1,117 @@
+package com.bookstore.soak;
+
+import com.bookstore.base.BaseTest;
+import com.bookstore.config.TestConfig;
+import com.bookstore.jfr.FlightRecording;
+import com.bookstore.metrics.MetricsExporter;
+import io.qameta.allure.testng.AllureTestNg;
+import org.assertj.core.api.SoftAssertions;
+import org.testng.TestNG;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.testng.xml.Parser;
+import org.testng.xml.XmlSuite;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Soak mode: runs the regular suite repeatedly for soak.duration.seconds, samples client-side
+ * resources between iterations and fails with a trend report when any of them keeps growing
+ * or when the suite itself fails in measured iterations
+ */
+public class SoakTest {
+
+    private TestConfig config;
+
+    @BeforeClass
+    public void setupClass() {
+        config = TestConfig.getInstance();
+        // Keep one recording and one metrics endpoint open across all nested suite runs
+        FlightRecording.start();
+        MetricsExporter.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDownClass() {
+        MetricsExporter.stop();
+        FlightRecording.stop();
+    }
+
+    @Test(description = "Soak - run the suite repeatedly and verify client resources do not leak")
+    public void soak_SuiteRunRepeatedly_ShouldNotLeakResources() throws IOException, InterruptedException {
+        int warmup = config.getSoakWarmupIterations();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.getSoakDurationSeconds());
+        long start = System.nanoTime();
+        List<ResourceSample> samples = new ArrayList<>();
+
+        int iteration = 0;
+        while (System.nanoTime() < deadline || iteration < warmup + config.getSoakMinIterations()) {
+            iteration++;
+            boolean passed = runSuite();
+            ResourceSample sample = ResourceSampler.sample(iteration,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), passed);
+            samples.add(sample);
+            System.out.println("Soak iteration " + iteration + ": " + sample);
+            TimeUnit.SECONDS.sleep(config.getSoakPauseSeconds());
+        }
+
+        LeakDetector detector = LeakDetector.withDefaults(
+                config.getSoakMaxHeapGrowthMb() * 1024L * 1024L,
+                config.getSoakMaxThreadGrowth(),
+                config.getSoakMaxFdGrowth(),
+                config.getSoakMaxConnectionGrowth());
+        List<LeakDetector.Trend> trends = detector.analyze(samples.subList(warmup, samples.size()));
+        String report = SoakReport.format(samples, warmup, trends);
+
+        Path reportPath = Paths.get(config.getSoakReportPath());
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        Files.write(reportPath, report.getBytes(StandardCharsets.UTF_8));
+        System.out.println(report);
+
+        List<ResourceSample> measured = samples.subList(warmup, samples.size());
+        long failed = measured.stream().filter(sample -> !sample.isSuitePassed()).count();
+        SoftAssertions soak = new SoftAssertions();
+        soak.assertThat(samples.get(samples.size() - 1).isSuitePassed())
+                .as("Suite passed in the last soak iteration%n%s", report)
+                .isTrue();
+        soak.assertThat((double) failed / measured.size())
+                .as("Share of measured soak iterations with a failed suite (%d of %d)%n%s",
+                        failed, measured.size(), report)
+                .isLessThanOrEqualTo(config.getSoakMaxFailedShare());
+        soak.assertThat(trends)
+                .as("Resources growing across soak iterations%n%s", report)
+                .noneMatch(LeakDetector.Trend::isLeaking);
+        soak.assertAll();
+    }
+
+    /**
+     * One nested run of the soak suite. Allure is off for nested runs: its TestNG listener is
+     * registered through a service loader, so setUseDefaultListeners does not remove it, and
+     * the Allure filter would attach every request of every iteration to the soak test itself.
+     */
+    private boolean runSuite() throws IOException {
+        List<XmlSuite> suites = new Parser(config.getSoakSuite()).parseToList();
+        for (XmlSuite suite : suites) {
+            suite.getParameters().put(BaseTest.ALLURE_REPORTING, "false");
+        }
+        TestNG testng = new TestNG();
+        testng.setXmlSuites(suites);
+        testng.setListenersToSkipFromBeingWiredInViaServiceLoaders(AllureTestNg.class.getName());
+        testng.setOutputDirectory("target/soak/testng");
+        testng.setUseDefaultListeners(false);
+        testng.setVerbose(0);
+        testng.run();
+        return !testng.hasFailure();
+    }
+}
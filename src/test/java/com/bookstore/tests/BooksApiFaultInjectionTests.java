@@ -0,0 +1,212 @@
+package com.bookstore.tests;
+
+import com.bookstore.base.BaseTest;
+import com.bookstore.models.Book;
+import com.bookstore.proxy.FaultProxy;
+import com.bookstore.proxy.FaultRule;
+import com.bookstore.proxy.Latency;
+import com.bookstore.utils.RestClient;
+import io.qameta.allure.Feature;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+import org.apache.http.params.CoreConnectionPNames;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.bookstore.assertions.ResponseAssert.assertThatResponse;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Timeout and latency behaviour of the client under injected network faults
+ * Runs against stubbed responses of a local fault proxy, no external service needed
+ */
+@Feature("Books API - Fault Injection Tests")
+public class BooksApiFaultInjectionTests extends BaseTest {
+
+    private static final String BOOK_JSON = "{\"id\":5,\"title\":\"Slow Book\",\"description\":\"Dripped\","
+            + "\"pageCount\":100,\"excerpt\":\"Excerpt\",\"publishDate\":\"2025-10-18T14:22:07.735Z\"}";
+    private static final int BOOKS_IN_LIST = 200;
+    // test_01 waits for a full socket timeout, so it uses a short one instead of socket.timeout
+    private static final int SHORT_SOCKET_TIMEOUT = 1000;
+
+    private FaultProxy proxy;
+
+    @BeforeClass(alwaysRun = true)
+    public void startProxy() throws IOException {
+        String booksJson = IntStream.rangeClosed(1, BOOKS_IN_LIST)
+            .mapToObj(id -> BOOK_JSON.replace("\"id\":5", "\"id\":" + id))
+            .collect(Collectors.joining(",", "[", "]"));
+
+        proxy = FaultProxy.forTarget(config.getBaseUrl())
+            .upstreamTimeouts(config.getConnectionTimeout(), config.getSocketTimeout())
+            .route(FaultRule.builder().name("warmup").method("GET").path(".*/Books/3")
+                .stubStatus(200).stubBody(BOOK_JSON).build())
+            .route(FaultRule.builder().name("timeout").method("GET").path(".*/Books/1")
+                .latency(Latency.fixed(SHORT_SOCKET_TIMEOUT + 2000L))
+                .stubStatus(200).stubBody(BOOK_JSON).build())
+            .route(FaultRule.builder().name("tail").method("GET").path(".*/Books/2")
+                .latency(Latency.uniform(50, 150))
+                .stubStatus(200).stubBody(BOOK_JSON).build())
+            .route(FaultRule.builder().name("drop").method("POST").path(".*/Books")
+                .dropProbability(1).build())
+            .route(FaultRule.builder().name("reset").method("GET").path(".*/Books/4")
+                .resetProbability(1).build())
+            .route(FaultRule.builder().name("drip").method("GET").path(".*/Books/5")
+                .dripChunkBytes(16).dripIntervalMillis(20)
+                .stubStatus(200).stubBody(BOOK_JSON).build())
+            .route(FaultRule.builder().name("bandwidth").method("GET").path(".*/Books")
+                .bytesPerSecond(50_000)
+                .stubStatus(200).stubBody(booksJson).build())
+            .start();
+
+        // First Rest Assured call of the JVM pays class loading; keep it out of the timed tests
+        given()
+            .spec(proxied())
+        .when()
+            .get("/Books/3")
+        .then()
+            .statusCode(200);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopProxy() throws IOException {
+        if (proxy != null) {
+            proxy.close();
+        }
+    }
+
+    @Test(priority = 1,
+          description = "01 - GET book slower than the socket timeout - verify the request times out at the client's timeout",
+          groups = {"fault"})
+    public void test_01_GetBookSlowerThanSocketTimeout_ShouldTimeOut() {
+        RestAssuredConfig restConfig = SpecificationQuerier.query(proxied()).getConfig();
+        RestAssuredConfig shortTimeout = restConfig.httpClient(restConfig.getHttpClientConfig()
+            .setParam(CoreConnectionPNames.SO_TIMEOUT, SHORT_SOCKET_TIMEOUT));
+        long start = System.currentTimeMillis();
+
+        assertThatThrownBy(() -> given()
+            .spec(proxied())
+            .config(shortTimeout)
+        .when()
+            .get("/Books/1"))
+            .isInstanceOf(SocketTimeoutException.class);
+
+        long elapsed = System.currentTimeMillis() - start;
+        assertThat(elapsed)
+            .isGreaterThanOrEqualTo(SHORT_SOCKET_TIMEOUT)
+            .isLessThan(SHORT_SOCKET_TIMEOUT + 2000L);
+    }
+
+    @Test(priority = 2,
+          description = "02 - GET book with 50-150ms injected latency - verify median and tail latency stay within bounds",
+          groups = {"fault"})
+    public void test_02_GetBookWithInjectedLatency_ShouldStayWithinTailBudget() {
+        long[] latencies = new long[20];
+        for (int i = 0; i < latencies.length; i++) {
+            Response response = given()
+                .spec(proxied())
+            .when()
+                .get("/Books/2");
+
+            assertThatResponse(response)
+                .hasStatusCode(200)
+                .verify();
+            latencies[i] = response.getTime();
+        }
+        Arrays.sort(latencies);
+
+        assertThat(latencies[latencies.length / 2]).as("p50 latency").isBetween(50L, 300L);
+        assertThat(latencies[(int) Math.ceil(latencies.length * 0.95) - 1]).as("p95 latency").isBetween(50L, 500L);
+    }
+
+    @Test(priority = 3,
+          description = "03 - POST book on a dropped connection - verify the request fails and is not retried",
+          groups = {"fault"})
+    public void test_03_CreateBookOnDroppedConnection_ShouldFailWithoutRetry() {
+        Book newBook = bookFactory.build();
+
+        assertThatThrownBy(() -> given()
+            .spec(proxied())
+            .body(newBook)
+        .when()
+            .post("/Books"))
+            .isInstanceOf(IOException.class);
+
+        assertThat(proxy.getRequestCount("drop")).as("POST attempts").isEqualTo(1);
+    }
+
+    @Test(priority = 4,
+          description = "04 - GET book on a reset connection - verify the request fails",
+          groups = {"fault"})
+    public void test_04_GetBookOnResetConnection_ShouldFail() {
+        assertThatThrownBy(() -> given()
+            .spec(proxied())
+        .when()
+            .get("/Books/4"))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test(priority = 5,
+          description = "05 - GET book with slow-drip response - verify the complete book arrives",
+          groups = {"fault"})
+    public void test_05_GetBookWithSlowDripResponse_ShouldReturnCompleteBook() {
+        long start = System.currentTimeMillis();
+
+        Response response = given()
+            .spec(proxied())
+        .when()
+            .get("/Books/5");
+
+        assertThatResponse(response)
+            .hasStatusCode(200)
+            .hasField("title", "Slow Book")
+            .matchesSchema("schemas/book-schema.json")
+            .verify();
+        // At least one 20ms pause per 16-byte chunk of the body alone
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(BOOK_JSON.length() / 16 * 20L);
+    }
+
+    @Test(priority = 6,
+          description = "06 - GET all books over a 50 KB/s link - verify the transfer time follows the bandwidth limit",
+          groups = {"fault"})
+    public void test_06_GetAllBooksOverLimitedBandwidth_ShouldTakeTransferTime() {
+        long start = System.currentTimeMillis();
+
+        Response response = given()
+            .spec(proxied())
+        .when()
+            .get("/Books");
+
+        assertThatResponse(response)
+            .hasStatusCode(200)
+            .isNonEmptyArray()
+            .verify();
+        // Response time only covers the headers, so measure until the whole body is read
+        long elapsed = System.currentTimeMillis() - start;
+        long expectedMillis = response.asByteArray().length * 1000L / 50_000;
+        assertThat(elapsed).isGreaterThanOrEqualTo(expectedMillis * 8 / 10);
+    }
+
+    /**
+     * The regular request specification, sent through the fault proxy
+     */
+    private RequestSpecification proxied() {
+        // Not requestSpec: that is only set per test method, the warm-up runs before
+        return new RequestSpecBuilder()
+            .addRequestSpecification(RestClient.getRequestSpec())
+            .setBaseUri(proxy.getBaseUrl())
+            .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.bookstore.tests;
+
+import com.bookstore.base.BaseTest;
+import com.bookstore.models.Book;
+import com.bookstore.streaming.BookPayloads;
+import com.bookstore.streaming.StreamingBody;
+import io.qameta.allure.Feature;
+import io.restassured.response.Response;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.bookstore.assertions.ResponseAssert.assertThatResponse;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Multi-MB Book payloads generated while they are sent (chunked), never built in memory.
+ * Part of the opt-in load suite only (mvn test -Pload).
+ */
+@Feature("Books API - Large Payload Tests")
+public class BooksApiLargePayloadTests extends BaseTest {
+
+    private BookPayloads payloads;
+
+    @BeforeClass(alwaysRun = true)
+    public void setupPayloads() {
+        payloads = new BookPayloads(config.getStreamingSegmentBytes());
+    }
+
+    @Test(priority = 1,
+          description = "01 - POST book with multi-MB description and excerpt, streamed - verify the book is created with the full text",
+          groups = {"large", "load"})
+    public void test_01_CreateBookWithLargeTextStreamed_ShouldCreateBook() {
+        Book book = bookFactory.build();
+        bookFactory.track(book.getId());
+        StreamingBody body = payloads.largeBook(book,
+            config.getStreamingDescriptionBytes(), config.getStreamingExcerptBytes());
+
+        Response response = given()
+            .spec(requestSpec)
+            .body(body)
+        .when()
+            .post("/Books");
+
+        Book created = assertThatResponse(response)
+            .hasStatusCode(200)
+            .hasContentType("application/json")
+            .hasField("id", book.getId())
+            .hasField("title", book.getTitle())
+            .verify()
+            .as(Book.class);
+
+        assertThat(body.isFinished()).as("whole body sent").isTrue();
+        assertThat(created.getDescription()).hasSize((int) config.getStreamingDescriptionBytes());
+        assertThat(created.getExcerpt()).hasSize((int) config.getStreamingExcerptBytes());
+    }
+
+    @Test(priority = 2,
+          description = "02 - POST large streamed books concurrently - verify all are created and no body is held in memory while sent",
+          groups = {"large", "load"})
+    public void test_02_CreateLargeBooksConcurrently_ShouldStreamEveryBody() throws Exception {
+        long payloadBytes = config.getStreamingDescriptionBytes() + config.getStreamingExcerptBytes();
+        ExecutorService uploaders = Executors.newFixedThreadPool(config.getStreamingConcurrency());
+        List<Future<Integer>> statuses = new ArrayList<>();
+        List<StreamingBody> bodies = new ArrayList<>();
+        try {
+            for (int i = 0; i < config.getStreamingUploads(); i++) {
+                Book book = bookFactory.build();
+                bookFactory.track(book.getId());
+                StreamingBody body = payloads.largeBook(book,
+                    config.getStreamingDescriptionBytes(), config.getStreamingExcerptBytes());
+                bodies.add(body);
+                statuses.add(uploaders.submit(() -> given()
+                    .spec(requestSpec)
+                    .body(body)
+                .when()
+                    .post("/Books")
+                    .getStatusCode()));
+            }
+            for (Future<Integer> status : statuses) {
+                assertThat(status.get()).isEqualTo(200);
+            }
+        } finally {
+            uploaders.shutdownNow();
+        }
+
+        for (StreamingBody body : bodies) {
+            assertThat(body.isFinished()).as("whole body sent: %s", body).isTrue();
+            assertThat(body.getBytesRead()).isGreaterThan(payloadBytes);
+            // Sending allocates buffers, not a copy of the payload
+            assertThat(body.getAllocatedBytes()).as("bytes allocated while sending %s", body)
+                .isLessThan(payloadBytes / 4);
+        }
+    }
+
+    @Test(priority = 3,
+          description = "03 - POST bulk array of books, streamed - verify status 400 after the whole array is sent",
+          groups = {"large", "load"})
+    public void test_03_CreateBulkArrayStreamed_ShouldReturnStatus400() {
+        int count = config.getStreamingBulkBooks();
+        StreamingBody body = payloads.bulk(count, index -> bookFactory.build());
+
+        given()
+            .spec(requestSpec)
+            .body(body)
+        .when()
+            .post("/Books")
+        .then()
+            .statusCode(400);
+
+        assertThat(body.isFinished()).as("whole body sent").isTrue();
+        assertThat(body.getBytesRead()).isGreaterThan(count * 100L);
+    }
+}
@@ -1,6 +1,7 @@
 package com.bookstore.tests;
 
 import com.bookstore.base.BaseTest;
+import com.bookstore.jfr.JfrMatchers;
 import com.bookstore.models.Book;
 import io.qameta.allure.Feature;
 import org.testng.annotations.Test;
@@ -18,20 +19,24 @@ public class BooksApiNegativeTests extends BaseTest {
           description = "01 - GET book with invalid ID - verify 404 is returned",
           groups = {"negative", "get_id"})
     public void test_01_GetBookWithInvalidId_ShouldReturn404() {
+        int missingId = bookFactory.unusedId();
+
         given()
             .spec(requestSpec)
         .when()
-            .get("/Books/300")
+            .get("/Books/" + missingId)
         .then()
-            .statusCode(404);
+            .statusCode(404)
+            .body("title", JfrMatchers.body("title", equalTo("Not Found")));
     }
 
     @Test(priority = 2,
           description = "02 - PUT update non-existent book - verify 404 is returned",
           groups = {"negative", "put"})
     public void test_02_UpdateNonExistentBook_ShouldReturn404() {
+        int missingId = bookFactory.reserveId();
         Book updatedBook = Book.builder()
-            .id(300)
+            .id(missingId)
             .title("Non-Existent Book")
             .description("This book does not exist")
             .pageCount(150)
@@ -43,7 +48,7 @@ public class BooksApiNegativeTests extends BaseTest {
             .spec(requestSpec)
             .body(updatedBook)
         .when()
-            .put("/Books/300")
+            .put("/Books/" + missingId)
         .then()
             .statusCode(404);
     }
@@ -52,10 +57,12 @@ public class BooksApiNegativeTests extends BaseTest {
           description = "03 - DELETE non-existent book - verify 404 is returned",
           groups = {"negative", "delete"})
     public void test_03_DeleteNonExistentBook_ShouldReturn404() {
+        int missingId = bookFactory.unusedId();
+
         given()
             .spec(requestSpec)
         .when()
-            .delete("/Books/300")
+            .delete("/Books/" + missingId)
         .then()
             .statusCode(404);
     }
@@ -179,7 +186,7 @@ public class BooksApiNegativeTests extends BaseTest {
           groups = {"negative", "post"})
     public void test_11_CreateBookWithoutTitle_ShouldReturn400() {
         String bookWithoutTitle = "{"
-            + "\"id\": 500,"
+            + "\"id\": " + bookFactory.reserveId() + ","
             + "\"description\": \"Missing title field\","
             + "\"pageCount\": 100,"
             + "\"excerpt\": \"Test excerpt\","
@@ -244,7 +251,7 @@ public class BooksApiNegativeTests extends BaseTest {
           groups = {"negative", "post"})
     public void test_14_CreateBookWithInvalidPageCount_ShouldReturn400() {
         String bookWithInvalidPageCount = "{"
-            + "\"id\": 501,"
+            + "\"id\": " + bookFactory.reserveId() + ","
             + "\"title\": \"Test Book\","
             + "\"description\": \"Testing invalid pageCount\","
             + "\"pageCount\": \"not-a-number\","
@@ -288,7 +295,7 @@ public class BooksApiNegativeTests extends BaseTest {
           groups = {"negative", "post"})
     public void test_16_CreateBookWithNegativePageCount_ShouldReturn400() {
         Book bookWithNegativePages = Book.builder()
-            .id(100)
+            .id(bookFactory.reserveId())
             .title("Book with Negative Pages")
             .description("Testing negative pageCount value")
             .pageCount(-1)
@@ -356,7 +363,7 @@ public class BooksApiNegativeTests extends BaseTest {
         groups = {"negative", "post"})
     public void test_20_CreateBookWithInvalidDateFormat_ShouldReturn400() {
         String bookWithInvalidDate = "{"
-            + "\"id\": 502,"
+            + "\"id\": " + bookFactory.reserveId() + ","
             + "\"title\": \"Test Book\","
             + "\"description\": \"Testing invalid date\","
             + "\"pageCount\": 100,"
@@ -378,7 +385,7 @@ public class BooksApiNegativeTests extends BaseTest {
         groups = {"negative", "post"})
     public void test_21_CreateBookWithNullTitle_ShouldReturn400() {
         Book bookWithNullTitle = Book.builder()
-            .id(503)
+            .id(bookFactory.reserveId())
             .title(null)
             .description("Testing null title")
             .pageCount(100)
@@ -400,7 +407,7 @@ public class BooksApiNegativeTests extends BaseTest {
         groups = {"negative", "post"})
     public void test_22_CreateBookWithMalformedJson_ShouldReturn400() {
         String malformedJson = "{"
-            + "\"id\": 504,"
+            + "\"id\": " + bookFactory.reserveId() + ","
             + "\"title\": \"Test Book\","
             + "\"description\": \"Malformed JSON\","
             + "\"pageCount\": 100,"
@@ -3,10 +3,10 @@ package com.bookstore.tests;
 import com.bookstore.base.BaseTest;
 import com.bookstore.models.Book;
 import io.qameta.allure.Feature;
+import io.restassured.response.Response;
 import org.testng.annotations.Test;
+import static com.bookstore.assertions.ResponseAssert.assertThatResponse;
 import static io.restassured.RestAssured.given;
-import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
-import static org.hamcrest.Matchers.*;
 
 /**
  * Positive test cases for Books API endpoints
@@ -15,98 +15,89 @@ import static org.hamcrest.Matchers.*;
 @Feature("Books API - Positive Tests")
 public class BooksApiPositiveTests extends BaseTest {
 
+    // Created in test_03 with an id from this run's private range, reused by the CRUD chain
+    private Book createdBook;
+    private Book updatedBook;
+
     @Test(priority = 1, 
           description = "01 - GET all books - verify status 200 and validates the JSON schema",
           groups = {"smoke", "positive", "get"})
     public void test_01_GetAllBooks_ShouldReturnAllBooks() {
-        given()
+        Response response = given()
             .spec(requestSpec)
         .when()
-            .get("/Books")
-        .then()
-            .statusCode(200)
-            .contentType(containsString("application/json"))
-            .body("$", not(empty()))
-            .body("size()", greaterThan(0))
-            .body(matchesJsonSchemaInClasspath("schemas/books-array-schema.json"));
+            .get("/Books");
+
+        assertThatResponse(response)
+            .hasStatusCode(200)
+            .hasContentType("application/json")
+            .isNonEmptyArray()
+            .matchesSchema("schemas/books-array-schema.json")
+            .verify();
     }
 
     @Test(priority = 2, 
           description = "02 - GET book by ID - verify the book is retrieved successfully and validates the JSON schema",
           groups = {"smoke", "positive", "get_id"})
     public void test_02_GetBookById_ShouldReturnBook() {
-        given()
+        Response response = given()
             .spec(requestSpec)
         .when()
-            .get("/Books/1")
-        .then()
-            .statusCode(200)
-            .contentType(containsString("application/json"))
-            .body("id", equalTo(1))
-            .body("title", notNullValue())
-            .body("description", notNullValue())
-            .body("pageCount", notNullValue())
-            .body("excerpt", notNullValue())
-            .body("publishDate", notNullValue())
-            .body(matchesJsonSchemaInClasspath("schemas/book-schema.json"));
+            .get("/Books/1");
+
+        assertThatResponse(response)
+            .hasStatusCode(200)
+            .hasContentType("application/json")
+            .hasField("id", 1)
+            .hasNonNullFields("title", "description", "pageCount", "excerpt", "publishDate")
+            .matchesSchema("schemas/book-schema.json")
+            .verify();
     }
 
     @Test(priority = 3, 
           description = "03 - POST new book - verify the book is created successfully",
           groups = {"positive", "post"})
     public void test_03_CreateBook_ShouldCreateBook() {
-        Book newBook = Book.builder()
-            .id(201)
-            .title("Test Book")
-            .description("Test Description")
-            .pageCount(100)
-            .excerpt("Test Excerpt")
-            .publishDate("2025-10-18T14:22:07.735Z")
-            .build();
+        createdBook = bookFactory.build();
+        bookFactory.track(createdBook.getId());
         
-        given()
+        Response response = given()
             .spec(requestSpec)
-            .body(newBook)
+            .body(createdBook)
         .when()
-            .post("/Books")
-        .then()
-            .statusCode(200)
-            .contentType(containsString("application/json"))
-            .body("id", equalTo(201))
-            .body("title", equalTo("Test Book"))
-            .body("description", equalTo("Test Description"))
-            .body("pageCount", equalTo(100))
-            .body("excerpt", equalTo("Test Excerpt"))
-            .body("publishDate", equalTo("2025-10-18T14:22:07.735Z"))
-            .body(matchesJsonSchemaInClasspath("schemas/book-schema.json"));
+            .post("/Books");
+
+        assertThatResponse(response)
+            .hasStatusCode(200)
+            .hasContentType("application/json")
+            .hasBody(createdBook)
+            .matchesSchema("schemas/book-schema.json")
+            .verify();
     }
 
     @Test(priority = 4, 
           description = "04 - GET the created book by ID - verify the created book is persisted in the database",
           groups = {"positive", "get_id"})
     public void test_04_GetCreatedBookById_ShouldReturnCreatedBook() {
-        given()
+        Response response = given()
             .spec(requestSpec)
         .when()
-            .get("/Books/201")
-        .then()
-            .statusCode(200)
-            .contentType(containsString("application/json"))
-            .body("id", equalTo(201))
-            .body("title", equalTo("Test Book"))
-            .body("description", equalTo("Test Description"))
-            .body("pageCount", equalTo(100))
-            .body("excerpt", equalTo("Test Excerpt"))
-            .body("publishDate", equalTo("2025-10-18T14:22:07.735Z"))
-            .body(matchesJsonSchemaInClasspath("schemas/book-schema.json"));
+            .get("/Books/" + createdBook.getId());
+
+        assertThatResponse(response)
+            .hasStatusCode(200)
+            .hasContentType("application/json")
+            .hasBody(createdBook)
+            .matchesSchema("schemas/book-schema.json")
+            .verify();
     }
 
     @Test(priority = 5, 
           description = "05 - PUT update book - verify the book is updated successfully",
           groups = {"positive", "put"})
     public void test_05_UpdateBook_ShouldUpdateBook() {
-        Book updatedBook = Book.builder()
-            .id(200)
+        updatedBook = Book.builder()
+            .id(createdBook.getId())
             .title("Updated Book")
             .description("Updated Description")
             .pageCount(200)
@@ -114,41 +105,35 @@ public class BooksApiPositiveTests extends BaseTest {
             .publishDate("2025-10-18T14:25:07.735Z")
             .build();
         
-        given()
+        Response response = given()
             .spec(requestSpec)
             .body(updatedBook)
         .when()
-            .put("/Books/200")
-        .then()
-            .statusCode(200)
-            .contentType(containsString("application/json"))
-            .body("id", equalTo(200))
-            .body("title", equalTo("Updated Book"))
-            .body("description", equalTo("Updated Description"))
-            .body("pageCount", equalTo(200))
-            .body("excerpt", equalTo("Updated Excerpt"))
-            .body("publishDate", equalTo("2025-10-18T14:25:07.735Z"))
-            .body(matchesJsonSchemaInClasspath("schemas/book-schema.json"));
+            .put("/Books/" + createdBook.getId());
+
+        assertThatResponse(response)
+            .hasStatusCode(200)
+            .hasContentType("application/json")
+            .hasBody(updatedBook)
+            .matchesSchema("schemas/book-schema.json")
+            .verify();
     }
 
     @Test(priority = 6, 
           description = "06 - GET the updated book by ID - verify the updated book is persisted in the database",
           groups = {"positive", "get_id"})
     public void test_06_GetUpdatedBookById_ShouldReturnUpdatedBook() {
-        given()
+        Response response = given()
             .spec(requestSpec)
         .when()
-            .get("/Books/200")
-        .then()
-            .statusCode(200)
-            .contentType(containsString("application/json"))
-            .body("id", equalTo(200))
-            .body("title", equalTo("Updated Book"))
-            .body("description", equalTo("Updated Description"))
-            .body("pageCount", equalTo(200))
-            .body("excerpt", equalTo("Updated Excerpt"))
-            .body("publishDate", equalTo("2025-10-18T14:25:07.735Z"))
-            .body(matchesJsonSchemaInClasspath("schemas/book-schema.json"));
+            .get("/Books/" + updatedBook.getId());
+
+        assertThatResponse(response)
+            .hasStatusCode(200)
+            .hasContentType("application/json")
+            .hasBody(updatedBook)
+            .matchesSchema("schemas/book-schema.json")
+            .verify();
     }
 
     @Test(priority = 7, 
@@ -158,7 +143,7 @@ public class BooksApiPositiveTests extends BaseTest {
         given()
             .spec(requestSpec)
         .when()
-            .delete("/Books/200")
+            .delete("/Books/" + createdBook.getId())
         .then()
             .statusCode(200);
     }
@@ -170,7 +155,7 @@ public class BooksApiPositiveTests extends BaseTest {
         given()
             .spec(requestSpec)
         .when()
-            .get("/Books/200")
+            .get("/Books/" + createdBook.getId())
         .then()
             .statusCode(404);
     }
@@ -0,0 +1,99 @@
+package com.bookstore.tests;
+
+import com.bookstore.base.BaseTest;
+import com.bookstore.models.Book;
+import com.bookstore.scenario.Scenario;
+import com.bookstore.scenario.ScenarioResult;
+import com.bookstore.scenario.ScenarioRunner;
+import com.bookstore.scenario.Step;
+import io.qameta.allure.Feature;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static com.bookstore.assertions.ResponseAssert.assertThatResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Multi-step book lifecycle declared once as a scenario, run as a single functional pass
+ * and, in the opt-in load suite only, as many pipelined concurrent instances
+ */
+@Feature("Books API - Scenario Tests")
+public class BooksApiScenarioTests extends BaseTest {
+
+    private Scenario bookLifecycle;
+
+    @BeforeClass(alwaysRun = true)
+    public void defineScenario() {
+        bookLifecycle = Scenario.named("book lifecycle")
+            .variable("book", ctx -> {
+                Book book = bookFactory.build();
+                bookFactory.track(book.getId());
+                return book;
+            })
+            .step(Step.post("create", "/Books")
+                .body(ctx -> ctx.get("book"))
+                .expectStatus(200)
+                .extract("id", "id"))
+            .step(Step.get("read", "/Books/{id}")
+                .expectStatus(200)
+                .check((response, ctx) -> assertThatResponse(response)
+                    .hasBody(ctx.get("book"))
+                    .matchesSchema("schemas/book-schema.json")
+                    .verify()))
+            .step(Step.put("update", "/Books/{id}")
+                .body(ctx -> {
+                    Book book = ctx.get("book");
+                    Book updated = Book.builder()
+                        .id(book.getId())
+                        .title("Updated " + book.getTitle())
+                        .description(book.getDescription())
+                        .pageCount(book.getPageCount() + 1)
+                        .excerpt(book.getExcerpt())
+                        .publishDate(book.getPublishDate())
+                        .build();
+                    ctx.put("updated", updated);
+                    return updated;
+                })
+                .expectStatus(200))
+            .step(Step.get("readUpdated", "/Books/{id}")
+                .expectStatus(200)
+                .check((response, ctx) -> assertThatResponse(response)
+                    .hasBody(ctx.get("updated"))
+                    .verify()))
+            .step(Step.delete("delete", "/Books/{id}")
+                .expectStatus(200))
+            .step(Step.get("verifyDeleted", "/Books/{id}")
+                .expectStatus(404))
+            .step(Step.get("list", "/Books")
+                .after()
+                .expectStatus(200)
+                .check((response, ctx) -> assertThatResponse(response)
+                    .isNonEmptyArray()
+                    .verify()));
+    }
+
+    @Test(priority = 1,
+          description = "01 - Book lifecycle scenario, single instance - verify every step passes with the extracted id",
+          groups = {"scenario"})
+    public void test_01_BookLifecycleScenarioOnce_ShouldSucceed() {
+        ScenarioResult result = ScenarioRunner.runOnce(bookLifecycle);
+
+        result.assertAllSucceeded();
+        assertThat(result.getSucceededInstances()).isEqualTo(1);
+    }
+
+    @Test(priority = 2,
+          description = "02 - Book lifecycle scenario, concurrent instances - verify all instances pass without interfering",
+          groups = {"scenario", "load"})
+    public void test_02_BookLifecycleScenarioConcurrent_ShouldSucceedForAllInstances() {
+        int instances = config.getScenarioInstances();
+        ScenarioRunner runner = new ScenarioRunner(config.getScenarioConcurrency(),
+            config.getScenarioMaxActiveInstances());
+
+        ScenarioResult result = runner.run(bookLifecycle, instances);
+        System.out.println(result);
+
+        result.assertAllSucceeded();
+        assertThat(result.getSucceededInstances()).isEqualTo(instances);
+    }
+}
@@ -0,0 +1,103 @@
+package com.bookstore.tests;
+
+import com.bookstore.assertions.SnapshotAssert;
+import com.bookstore.base.BaseTest;
+import io.qameta.allure.Feature;
+import io.restassured.response.Response;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static com.bookstore.assertions.ResponseAssert.assertThatResponse;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Responses compared with golden snapshots by canonical hash, diffed only on change.
+ * Comparisons with the service (group golden) are left out of the default suite until their goldens are committed.
+ * Runs first in the suite so the book list is not affected by books created by other tests.
+ */
+@Feature("Books API - Snapshot Tests")
+public class BooksApiSnapshotTests extends BaseTest {
+
+    private SnapshotAssert snapshots;
+
+    @BeforeClass(alwaysRun = true)
+    public void setupSnapshots() {
+        snapshots = new SnapshotAssert(Paths.get(config.getSnapshotDir()), config.isSnapshotUpdate(),
+            config.getSnapshotIgnoredFields());
+    }
+
+    @Test(priority = 1,
+          description = "01 - GET all books - verify the list matches the golden snapshot",
+          groups = {"snapshot", "golden"})
+    public void test_01_GetAllBooks_ShouldMatchSnapshot() {
+        Response response = given()
+            .spec(requestSpec)
+            .filter(snapshots.capture("books-list"))
+        .when()
+            .get("/Books");
+
+        assertThatResponse(response)
+            .hasStatusCode(200)
+            .verify();
+        snapshots.assertMatches(response, "books-list");
+    }
+
+    @Test(priority = 2,
+          description = "02 - GET book by ID - verify the book matches the golden snapshot",
+          groups = {"snapshot", "golden"})
+    public void test_02_GetBookById_ShouldMatchSnapshot() {
+        Response response = given()
+            .spec(requestSpec)
+            .filter(snapshots.capture("book-1"))
+        .when()
+            .get("/Books/1");
+
+        assertThatResponse(response)
+            .hasStatusCode(200)
+            .verify();
+        snapshots.assertMatches(response, "book-1");
+    }
+
+    @Test(priority = 3,
+          description = "03 - GET a different book against a recorded snapshot - verify the mismatch is reported as a structural diff and a missing golden fails",
+          groups = {"snapshot"})
+    public void test_03_GetDifferentBook_ShouldReportSnapshotDiff() throws IOException {
+        Path directory = Files.createTempDirectory("snapshots");
+        SnapshotAssert recorder = new SnapshotAssert(directory, true, config.getSnapshotIgnoredFields());
+        SnapshotAssert scratch = new SnapshotAssert(directory, false, config.getSnapshotIgnoredFields());
+        try {
+            recorder.assertMatches(given().spec(requestSpec).filter(recorder.capture("book")).when().get("/Books/1"), "book");
+
+            Response otherBook = given()
+                .spec(requestSpec)
+                .filter(scratch.capture("book"))
+            .when()
+                .get("/Books/2");
+
+            assertThatThrownBy(() -> scratch.assertMatches(otherBook, "book"))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("differs from snapshot book")
+                .hasMessageContaining("$.id: expected <1> but was <2>")
+                .hasMessageNotContaining("publishDate");
+
+            Response missing = given().spec(requestSpec).filter(scratch.capture("missing")).when().get("/Books/2");
+            assertThatThrownBy(() -> scratch.assertMatches(missing, "missing"))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("No golden snapshot missing");
+
+            assertThatThrownBy(() -> scratch.assertMatches(given().spec(requestSpec).when().get("/Books/1"), "book"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No response captured for snapshot book");
+        } finally {
+            Files.deleteIfExists(directory.resolve("book.json"));
+            Files.deleteIfExists(directory.resolve("book.sha256"));
+            Files.deleteIfExists(directory);
+        }
+    }
+}